@@ -0,0 +1,74 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for GoldPricez, NewsAPI, GNews and Gemini that answers every request after a fixed delay.
+ * JDK only, no build needed:
+ *
+ *   java loadtest/SlowUpstreamStub.java [port] [delayMillis]
+ *
+ * Defaults: port 9090, delay 2000 ms. See loadtest/README.md for how to point the app at it.
+ */
+public class SlowUpstreamStub {
+
+    private static final String GOLDPRICEZ_BODY = "\"{\\\"ounce_price_usd\\\":\\\"4895.440\\\","
+            + "\\\"gmt_ounce_price_usd_updated\\\":\\\"16-10-2026 09:14:02 am\\\"}\"";
+
+    private static final String ARTICLES = """
+            [{"title":"Gold price rises as Federal Reserve signals rate cut","source":{"name":"Stub"},"url":"https://example.com/1","publishedAt":"2026-10-16T08:00:00Z"},
+             {"title":"Dollar weakens, gold gains on safe haven demand","source":{"name":"Stub"},"url":"https://example.com/2","publishedAt":"2026-10-16T07:00:00Z"},
+             {"title":"Treasury yields fall after inflation cooling data","source":{"name":"Stub"},"url":"https://example.com/3","publishedAt":"2026-10-16T06:00:00Z"},
+             {"title":"Central bank gold buying hits record","source":{"name":"Stub"},"url":"https://example.com/4","publishedAt":"2026-10-16T05:00:00Z"}]""";
+
+    private static final String GEMINI_BODY = """
+            {"candidates":[{"content":{"parts":[{"text":"Stub explanation from the slow upstream."}]}}]}""";
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 9090;
+        long delayMillis = args.length > 1 ? Long.parseLong(args[1]) : 2000;
+        AtomicLong served = new AtomicLong();
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+
+        server.createContext("/goldpricez/", exchange -> respond(exchange, delayMillis, GOLDPRICEZ_BODY, served));
+        server.createContext("/newsapi/", exchange ->
+                respond(exchange, delayMillis, "{\"status\":\"ok\",\"articles\":" + ARTICLES + "}", served));
+        server.createContext("/gnews/", exchange ->
+                respond(exchange, delayMillis, "{\"articles\":" + ARTICLES + "}", served));
+        server.createContext("/gemini", exchange -> respond(exchange, delayMillis, GEMINI_BODY, served));
+
+        server.start();
+        System.out.printf("Slow upstream stub on :%d, delay %d ms%n", port, delayMillis);
+
+        Executors.newSingleThreadScheduledExecutor().scheduleAtFixedRate(
+                () -> System.out.printf("served %d requests%n", served.get()),
+                10, 10, java.util.concurrent.TimeUnit.SECONDS);
+    }
+
+    private static void respond(HttpExchange exchange, long delayMillis, String body, AtomicLong served) throws IOException {
+        try {
+            exchange.getRequestBody().readAllBytes();
+            Thread.sleep(delayMillis);
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            // GoldPricez really does send JSON as text/html
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+            served.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+// k6 scenario: sustained concurrency against the price, news and AI endpoints while
+// every upstream answers slowly (see SlowUpstreamStub.java and README.md).
+//
+//   k6 run -e BASE_URL=http://localhost:8081 -e VUS=200 loadtest/gold-endpoints.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const VUS = parseInt(__ENV.VUS || '200');
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+  scenarios: {
+    price: {
+      executor: 'constant-vus',
+      exec: 'latestPrice',
+      vus: VUS,
+      duration: DURATION,
+    },
+    news: {
+      executor: 'constant-vus',
+      exec: 'goldNews',
+      vus: Math.max(1, Math.floor(VUS / 4)),
+      duration: DURATION,
+    },
+    ai: {
+      executor: 'constant-vus',
+      exec: 'explainRisk',
+      vus: Math.max(1, Math.floor(VUS / 10)),
+      duration: DURATION,
+    },
+    // Cheap endpoint that never calls upstream: must stay fast while the others wait on the stub
+    health: {
+      executor: 'constant-arrival-rate',
+      exec: 'health',
+      rate: 20,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 20,
+    },
+  },
+  thresholds: {
+    'http_req_failed{scenario:price}': ['rate<0.01'],
+    'http_req_failed{scenario:news}': ['rate<0.01'],
+    // With a blocking path these queue behind the servlet pool and climb towards the stub delay
+    'http_req_duration{scenario:health}': ['p(95)<200'],
+  },
+};
+
+export function latestPrice() {
+  const res = http.get(`${BASE_URL}/api/gold-price/latest`, { tags: { name: 'latest' } });
+  check(res, { 'price 200': (r) => r.status === 200 });
+}
+
+export function goldNews() {
+  const res = http.get(`${BASE_URL}/api/news/gold`, { tags: { name: 'news' } });
+  check(res, { 'news 200': (r) => r.status === 200 });
+}
+
+export function explainRisk() {
+  const res = http.post(`${BASE_URL}/api/ai/explain/gold-risk`, null, { tags: { name: 'explain' } });
+  // 404 is fine on an empty database; the point is that the call does not time out
+  check(res, { 'explain answered': (r) => r.status === 200 || r.status === 404 });
+}
+
+export function health() {
+  const res = http.get(`${BASE_URL}/actuator/health`, { tags: { name: 'health' } });
+  check(res, { 'health 200': (r) => r.status === 200 });
+}
@@ -5,6 +5,7 @@ import com.goldlens.domain.Indicator;
 import com.goldlens.domain.IndicatorValue;
 import com.goldlens.domain.Signal;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -22,21 +23,21 @@ public class ExplainService {
     /**
      * Generates an explanation for what an indicator means and why it matters for gold.
      */
-    public String explainIndicator(Indicator indicator, IndicatorValue latestValue) {
+    public Mono<String> explainIndicator(Indicator indicator, IndicatorValue latestValue) {
         String prompt = buildIndicatorPrompt(indicator, latestValue);
         return geminiClient.generateContent(prompt)
                 .map(this::sanitizeResponse)
-                .orElse(FALLBACK_MESSAGE);
+                .defaultIfEmpty(FALLBACK_MESSAGE);
     }
 
     /**
      * Generates an explanation for why a signal has its current status.
      */
-    public String explainSignal(Signal signal) {
+    public Mono<String> explainSignal(Signal signal) {
         String prompt = buildSignalPrompt(signal);
         return geminiClient.generateContent(prompt)
                 .map(this::sanitizeResponse)
-                .orElse(FALLBACK_MESSAGE);
+                .defaultIfEmpty(FALLBACK_MESSAGE);
     }
 
     private String buildIndicatorPrompt(Indicator indicator, IndicatorValue latestValue) {
@@ -74,11 +75,11 @@ public class ExplainService {
     /**
      * Generates an explanation for the aggregated gold risk level.
      */
-    public String explainGoldRisk(GoldRiskSnapshot snapshot, List<Signal> signals) {
+    public Mono<String> explainGoldRisk(GoldRiskSnapshot snapshot, List<Signal> signals) {
         String prompt = buildGoldRiskPrompt(snapshot, signals);
         return geminiClient.generateContent(prompt)
                 .map(this::sanitizeResponse)
-                .orElse(FALLBACK_MESSAGE);
+                .defaultIfEmpty(FALLBACK_MESSAGE);
     }
 
     private String buildGoldRiskPrompt(GoldRiskSnapshot snapshot, List<Signal> signals) {
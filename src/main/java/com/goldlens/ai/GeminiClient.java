@@ -1,5 +1,6 @@
 package com.goldlens.ai;
 
+import com.goldlens.config.OutboundHttpClients;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -7,6 +8,7 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.List;
@@ -18,7 +20,6 @@ public class GeminiClient {
 
     private static final Logger log = LoggerFactory.getLogger(GeminiClient.class);
 
-    private static final String GEMINI_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.0-flash:generateContent";
     private static final Duration TIMEOUT = Duration.ofSeconds(30);
 
     private static final String SYSTEM_INSTRUCTION = """
@@ -31,47 +32,43 @@ public class GeminiClient {
     private final WebClient webClient;
     private final String apiKey;
 
-    public GeminiClient(@Value("${gemini.api.key}") String apiKey) {
+    public GeminiClient(
+            @Value("${gemini.api.key}") String apiKey,
+            @Value("${gemini.base-url:https://generativelanguage.googleapis.com/v1beta/models/gemini-2.0-flash:generateContent}") String baseUrl,
+            OutboundHttpClients outboundHttpClients) {
         this.apiKey = apiKey;
-        this.webClient = WebClient.builder()
-                .baseUrl(GEMINI_API_URL)
+        this.webClient = outboundHttpClients.builder(OutboundHttpClients.GEMINI)
+                .baseUrl(baseUrl)
                 .build();
     }
 
     /**
-     * Sends a prompt to Gemini and returns the text response.
-     * Returns empty if the API call fails.
+     * Sends a prompt to Gemini and emits the text response without blocking.
+     * Completes empty if the API call fails or times out.
      */
     @SuppressWarnings("unchecked")
-    public Optional<String> generateContent(String prompt) {
-        try {
-            Map<String, Object> requestBody = buildRequestBody(prompt);
-
-            Map<String, Object> response = webClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .queryParam("key", apiKey)
-                            .build())
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .timeout(TIMEOUT)
-                    .block();
-
-            if (response == null) {
-                log.warn("Gemini API returned null response");
-                return Optional.empty();
-            }
-
-            return extractTextFromResponse(response);
-
-        } catch (WebClientResponseException e) {
-            log.warn("Gemini API request failed: {} {}", e.getStatusCode(), e.getMessage());
-            return Optional.empty();
-        } catch (Exception e) {
-            log.warn("Failed to call Gemini API: {}", e.getMessage());
-            return Optional.empty();
-        }
+    public Mono<String> generateContent(String prompt) {
+        Map<String, Object> requestBody = buildRequestBody(prompt);
+
+        return webClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .queryParam("key", apiKey)
+                        .build())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .timeout(TIMEOUT)
+                .switchIfEmpty(Mono.fromRunnable(() -> log.warn("Gemini API returned null response")))
+                .flatMap(response -> Mono.justOrEmpty(extractTextFromResponse((Map<String, Object>) response)))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    log.warn("Gemini API request failed: {} {}", e.getStatusCode(), e.getMessage());
+                    return Mono.empty();
+                })
+                .onErrorResume(e -> {
+                    log.warn("Failed to call Gemini API: {}", e.getMessage());
+                    return Mono.empty();
+                });
     }
 
     private Map<String, Object> buildRequestBody(String prompt) {
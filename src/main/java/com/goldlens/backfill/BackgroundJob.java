@@ -0,0 +1,101 @@
+package com.goldlens.backfill;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * A named task run in the background by a BackgroundJobRunner (BootstrapJobManager at startup,
+ * OnDemandJobManager on request), with its live progress. Tasks report progress through
+ * {@link #progress(long, Long, String)}.
+ */
+public class BackgroundJob {
+
+    public enum Status {
+        PENDING, RUNNING, SUCCEEDED, FAILED
+    }
+
+    private final String name;
+    private final Instant submittedAt = Instant.now();
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    private volatile Status status = Status.PENDING;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile long processed;
+    private volatile Long total;
+    private volatile String message;
+    private volatile String error;
+
+    BackgroundJob(String name) {
+        this.name = name;
+    }
+
+    public void progress(long processed, Long total, String message) {
+        this.processed = processed;
+        this.total = total;
+        this.message = message;
+    }
+
+    void started() {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    void succeeded() {
+        finishedAt = Instant.now();
+        status = Status.SUCCEEDED;
+        finished.countDown();
+    }
+
+    void failed(Throwable cause) {
+        finishedAt = Instant.now();
+        error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        status = Status.FAILED;
+        finished.countDown();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isFinished() {
+        Status current = status;
+        return current == Status.SUCCEEDED || current == Status.FAILED;
+    }
+
+    /**
+     * Blocks until the job has succeeded or failed.
+     */
+    public void awaitFinished() throws InterruptedException {
+        finished.await();
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("status", status.name());
+        details.put("submittedAt", submittedAt.toString());
+        if (startedAt != null) {
+            details.put("startedAt", startedAt.toString());
+        }
+        if (finishedAt != null) {
+            details.put("finishedAt", finishedAt.toString());
+        }
+        details.put("processed", processed);
+        if (total != null) {
+            details.put("total", total);
+        }
+        if (message != null) {
+            details.put("message", message);
+        }
+        if (error != null) {
+            details.put("error", error);
+        }
+        return details;
+    }
+}
@@ -0,0 +1,117 @@
+package com.goldlens.backfill;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Named background jobs, one virtual thread each, with their live progress. At most one job
+ * per name is pending or running at a time. Subclasses are the runners for startup
+ * (BootstrapJobManager) and on-demand (OnDemandJobManager) work, kept apart so that
+ * on-demand failures never show up as startup health.
+ */
+public abstract class BackgroundJobRunner implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BackgroundJobRunner.class);
+
+    @FunctionalInterface
+    public interface BackgroundTask {
+        void run(BackgroundJob job) throws Exception;
+    }
+
+    private final String tag;
+    private final Map<String, BackgroundJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    protected BackgroundJobRunner(String tag) {
+        this.tag = "[" + tag + "]";
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(tag + "-", 0).factory());
+    }
+
+    /**
+     * Starts a job unless one with the same name is already pending or running, in which
+     * case that job is returned.
+     */
+    public BackgroundJob submit(String name, BackgroundTask task) {
+        return start(name, task).orElseGet(() -> jobs.get(name));
+    }
+
+    /**
+     * Starts a job unless one with the same name is already pending or running.
+     *
+     * @return the new job, or empty if one was already active
+     */
+    public Optional<BackgroundJob> trySubmit(String name, BackgroundTask task) {
+        return start(name, task);
+    }
+
+    public Optional<BackgroundJob> find(String name) {
+        return Optional.ofNullable(jobs.get(name));
+    }
+
+    private synchronized Optional<BackgroundJob> start(String name, BackgroundTask task) {
+        BackgroundJob existing = jobs.get(name);
+        if (existing != null && !existing.isFinished()) {
+            log.info("{} Job {} already {} — not resubmitting", tag, name, existing.getStatus());
+            return Optional.empty();
+        }
+        BackgroundJob job = new BackgroundJob(name);
+        jobs.put(name, job);
+
+        try {
+            executor.execute(() -> run(job, task));
+            log.info("{} Job {} submitted", tag, name);
+        } catch (RejectedExecutionException e) {
+            job.failed(e);
+            log.warn("{} Job {} rejected: shutting down", tag, name);
+        }
+        return Optional.of(job);
+    }
+
+    public Collection<BackgroundJob> getJobs() {
+        return jobs.values();
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        jobs.values().stream()
+                .sorted((a, b) -> a.getName().compareTo(b.getName()))
+                .forEach(job -> details.put(job.getName(), job.describe()));
+        return details;
+    }
+
+    private void run(BackgroundJob job, BackgroundTask task) {
+        Instant started = Instant.now();
+        job.started();
+        log.info("{} Job {} started", tag, job.getName());
+        try {
+            task.run(job);
+            job.succeeded();
+            log.info("{} Job {} succeeded in {} ms",
+                    tag, job.getName(), Duration.between(started, Instant.now()).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.failed(e);
+            log.warn("{} Job {} interrupted", tag, job.getName());
+        } catch (Exception e) {
+            job.failed(e);
+            log.error("{} Job {} failed: {}", tag, job.getName(), e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,19 @@
+package com.goldlens.backfill;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs startup backfills in the background so ApplicationReadyEvent (and with it the
+ * readiness probe) never waits on FRED, GoldAPI or spreadsheet imports. The app serves
+ * cached and DB data while jobs run; their progress is exposed at /actuator/jobs and
+ * summarised by the "bootstrap" health group.
+ *
+ * Each job gets its own virtual thread, so rate-limit sleeps and blocking clients cost nothing.
+ */
+@Component
+public class BootstrapJobManager extends BackgroundJobRunner {
+
+    public BootstrapJobManager() {
+        super("bootstrap");
+    }
+}
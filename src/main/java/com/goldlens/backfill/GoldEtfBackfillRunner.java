@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
@@ -16,8 +17,11 @@ import java.util.List;
 @Slf4j
 public class GoldEtfBackfillRunner implements CommandLineRunner {
 
+    private static final int BATCH_SIZE = 1000;
+
     private final GoldEtfExcelImporter excelImporter;
     private final GoldEtfFlowService etfFlowService;
+    private final BootstrapJobManager bootstrapJobManager;
 
     @Value("${gold.etf.backfill.enabled:false}")
     private boolean backfillEnabled;
@@ -29,35 +33,52 @@ public class GoldEtfBackfillRunner implements CommandLineRunner {
             return;
         }
 
+        bootstrapJobManager.submit("gold-etf-import", this::backfill);
+    }
+
+    private void backfill(BackgroundJob job) throws Exception {
         log.info("=== Starting Gold ETF Backfill ===");
 
-        try {
-            List<GoldEtfFlow> flows = excelImporter.parseExcel();
-
-            int processed = 0;
-            int inserted = 0;
-            int skipped = 0;
-
-            for (GoldEtfFlow flow : flows) {
-                processed++;
-                int result = etfFlowService.upsertFlow(flow);
-                if (result > 0) {
-                    inserted++;
-                } else {
-                    skipped++;
-                }
-
-                if (processed % 100 == 0) {
-                    log.info("Progress: processed={}, inserted={}, skipped={}", processed, inserted, skipped);
-                }
+        // Records are upserted in batches as the importer produces them; a re-run of an
+        // unchanged workbook writes nothing
+        List<GoldEtfFlow> batch = new ArrayList<>(BATCH_SIZE);
+        int[] counts = new int[4]; // processed, inserted, updated, unchanged
+        job.progress(0, null, "Importing ETF flows");
+
+        excelImporter.parseExcel(flow -> {
+            batch.add(flow);
+            if (batch.size() == BATCH_SIZE) {
+                flush(batch, counts, job);
             }
+        });
+        flush(batch, counts, job);
 
-            log.info("=== Gold ETF Backfill Complete ===");
-            log.info("Summary: processed={}, inserted={}, skipped={}", processed, inserted, skipped);
-            log.info("Total records in database: {}", etfFlowService.count());
+        int processed = counts[0];
+        if (processed == 0) {
+            // A workbook that yields nothing is broken, not an empty import; fail the job visibly
+            throw new IllegalStateException("ETF workbook produced no flow records");
+        }
+        job.progress(processed, (long) processed,
+                "inserted=" + counts[1] + ", updated=" + counts[2] + ", unchanged=" + counts[3]);
+        log.info("=== Gold ETF Backfill Complete ===");
+        log.info("Summary: processed={}, inserted={}, updated={}, unchanged={}",
+                processed, counts[1], counts[2], counts[3]);
+        log.info("Total records in database: {}", etfFlowService.count());
+    }
 
-        } catch (Exception e) {
-            log.error("Gold ETF backfill failed: {}", e.getMessage(), e);
+    private void flush(List<GoldEtfFlow> batch, int[] counts, BackgroundJob job) {
+        if (batch.isEmpty()) {
+            return;
         }
+        GoldEtfFlowService.UpsertResult result = etfFlowService.upsertAll(batch);
+        counts[0] += batch.size();
+        counts[1] += result.inserted();
+        counts[2] += result.updated();
+        counts[3] += result.unchanged();
+        batch.clear();
+
+        log.info("Progress: processed={}, inserted={}, updated={}, unchanged={}",
+                counts[0], counts[1], counts[2], counts[3]);
+        job.progress(counts[0], null, "Importing ETF flows");
     }
 }
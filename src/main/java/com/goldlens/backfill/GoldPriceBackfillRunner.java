@@ -25,6 +25,7 @@ import java.time.LocalDate;
  * Behavior:
  *   - If gold_price_history already has data → skips backfill
  *   - If empty → fetches last 30 days from GoldAPI
+ *   - Runs as the "gold-price-backfill" bootstrap job, off the startup path
  *   - Does NOT crash application on failure
  * 
  * After successful backfill:
@@ -44,23 +45,23 @@ public class GoldPriceBackfillRunner implements ApplicationRunner {
 
     private final GoldApiClient goldApiClient;
     private final GoldPriceHistoryService goldPriceHistoryService;
+    private final BootstrapJobManager bootstrapJobManager;
 
-    public GoldPriceBackfillRunner(GoldApiClient goldApiClient, GoldPriceHistoryService goldPriceHistoryService) {
+    public GoldPriceBackfillRunner(GoldApiClient goldApiClient,
+                                   GoldPriceHistoryService goldPriceHistoryService,
+                                   BootstrapJobManager bootstrapJobManager) {
         this.goldApiClient = goldApiClient;
         this.goldPriceHistoryService = goldPriceHistoryService;
+        this.bootstrapJobManager = bootstrapJobManager;
     }
 
     @Override
     public void run(ApplicationArguments args) {
-        try {
-            executeBackfill();
-        } catch (Exception e) {
-            // TODO: Backfill failure should NOT crash application startup
-            log.error("[BACKFILL] FAILED with unexpected error - application will continue: {}", e.getMessage(), e);
-        }
+        // Failures are recorded on the job and never reach application startup
+        bootstrapJobManager.submit("gold-price-backfill", this::executeBackfill);
     }
 
-    private void executeBackfill() {
+    private void executeBackfill(BackgroundJob job) {
         log.info("========================================");
         log.info("[BACKFILL] Gold price historical backfill triggered");
         log.info("========================================");
@@ -86,6 +87,7 @@ public class GoldPriceBackfillRunner implements ApplicationRunner {
         // Backfill from (today - 30) to (today - 1) i.e. yesterday
         for (int i = BACKFILL_DAYS; i >= 1; i--) {
             LocalDate date = today.minusDays(i);
+            job.progress(BACKFILL_DAYS - i, (long) BACKFILL_DAYS, "Fetching " + date);
 
             try {
                 var priceOpt = goldApiClient.fetchPriceForDate(date);
@@ -123,6 +125,7 @@ public class GoldPriceBackfillRunner implements ApplicationRunner {
             }
         }
 
+        job.progress(inserted + failed, (long) BACKFILL_DAYS, "inserted=" + inserted + ", failed=" + failed);
         log.info("========================================");
         log.info("[BACKFILL] Completed!");
         log.info("[BACKFILL] Inserted: {}", inserted);
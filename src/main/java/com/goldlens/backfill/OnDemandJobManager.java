@@ -0,0 +1,16 @@
+package com.goldlens.backfill;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs operator-triggered jobs (e.g. signal replays) in the background. Separate from
+ * BootstrapJobManager so on-demand work neither counts towards nor degrades the
+ * "bootstrap" health group.
+ */
+@Component
+public class OnDemandJobManager extends BackgroundJobRunner {
+
+    public OnDemandJobManager() {
+        super("on-demand");
+    }
+}
@@ -2,6 +2,7 @@ package com.goldlens.client;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldlens.config.OutboundHttpClients;
 import com.goldlens.dto.GoldNewsItem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,6 +11,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -29,43 +31,50 @@ public class GNewsClient {
 
     public GNewsClient(
             @Value("${news.fallback.base-url:https://gnews.io/api/v4}") String baseUrl,
-            @Value("${news.fallback.api-key:}") String apiKey) {
+            @Value("${news.fallback.api-key:}") String apiKey,
+            OutboundHttpClients outboundHttpClients) {
         this.apiKey = apiKey;
         this.objectMapper = new ObjectMapper();
-        this.webClient = WebClient.builder()
+        this.webClient = outboundHttpClients.builder(OutboundHttpClients.GNEWS)
                 .baseUrl(baseUrl)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
 
-    public Optional<List<GoldNewsItem>> fetchGoldNews() {
+    /**
+     * Fetches recent gold-related articles. Completes empty if the provider is unconfigured or fails.
+     */
+    public Mono<List<GoldNewsItem>> fetchGoldNews() {
         if (apiKey == null || apiKey.isBlank()) {
             log.warn("[GNews] API key not configured");
-            return Optional.empty();
+            return Mono.empty();
         }
 
-        try {
-            // Strict gold-focused query
-            String query = "gold price OR precious metals OR Federal Reserve OR central bank gold";
-
-            String responseBody = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/search")
-                            .queryParam("q", query)
-                            .queryParam("lang", "en")
-                            .queryParam("sortby", "relevance")
-                            .queryParam("max", MAX_ARTICLES)
-                            .queryParam("apikey", apiKey)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            if (responseBody == null || responseBody.isBlank()) {
-                log.warn("[GNews] Empty response");
-                return Optional.empty();
-            }
+        // Strict gold-focused query
+        String query = "gold price OR precious metals OR Federal Reserve OR central bank gold";
+
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/search")
+                        .queryParam("q", query)
+                        .queryParam("lang", "en")
+                        .queryParam("sortby", "relevance")
+                        .queryParam("max", MAX_ARTICLES)
+                        .queryParam("apikey", apiKey)
+                        .build())
+                .retrieve()
+                .bodyToMono(String.class)
+                .filter(responseBody -> !responseBody.isBlank())
+                .switchIfEmpty(Mono.fromRunnable(() -> log.warn("[GNews] Empty response")))
+                .flatMap(responseBody -> Mono.justOrEmpty(parseArticles(responseBody)))
+                .onErrorResume(e -> {
+                    log.error("[GNews] Failed to fetch news: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
 
+    private Optional<List<GoldNewsItem>> parseArticles(String responseBody) {
+        try {
             log.debug("[GNews] Raw response: {}", responseBody);
 
             JsonNode root = objectMapper.readTree(responseBody);
@@ -92,7 +101,7 @@ public class GNewsClient {
             return Optional.of(items);
 
         } catch (Exception e) {
-            log.error("[GNews] Failed to fetch news: {}", e.getMessage());
+            log.error("[GNews] Failed to parse news: {}", e.getMessage());
             return Optional.empty();
         }
     }
@@ -2,6 +2,7 @@ package com.goldlens.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldlens.config.OutboundHttpClients;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -42,10 +43,11 @@ public class GoldApiClient {
 
     public GoldApiClient(
             @Value("${goldapi.base-url:https://www.goldapi.io/api}") String baseUrl,
-            @Value("${goldapi.api.key:}") String apiKey) {
+            @Value("${goldapi.api.key:}") String apiKey,
+            OutboundHttpClients outboundHttpClients) {
         this.apiKey = apiKey;
         this.objectMapper = new ObjectMapper();
-        this.webClient = WebClient.builder()
+        this.webClient = outboundHttpClients.builder(OutboundHttpClients.GOLDAPI)
                 .baseUrl(baseUrl)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
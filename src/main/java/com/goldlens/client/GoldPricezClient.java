@@ -1,34 +1,33 @@
 package com.goldlens.client;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldlens.config.OutboundHttpClients;
 import com.goldlens.dto.GoldPriceSnapshot;
-import com.goldlens.dto.GoldPricezResponse;
 import com.goldlens.exception.GoldApiUnavailableException;
 import com.goldlens.exception.GoldPricezParseException;
+import com.goldlens.resilience.CircuitBreaker;
+import com.goldlens.resilience.CircuitBreakerRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.util.Locale;
-import java.util.UUID;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Client for GoldPricez.com API.
  * Fetches real-time gold prices in USD per ounce.
  * 
  * API docs: https://goldpricez.com/about/api
- * Rate limit: 30-60 requests/hour
+ * Rate limit: 30-60 requests/hour, enforced locally by GoldPricezRateBudget
+ * Failures: guarded by the "goldpricez" circuit breaker; while open, calls fail fast (errorType=CIRCUIT_OPEN)
  * Auth: X-API-KEY header
  */
 @Component
@@ -36,24 +35,26 @@ public class GoldPricezClient {
 
     private static final Logger log = LoggerFactory.getLogger(GoldPricezClient.class);
 
-    private static final String SOURCE = "GoldPricez";
-    private static final String CURRENCY = "USD";
-    private static final String UNIT = "oz";
-
-    // GoldPricez timestamp format: "19-12-2018 01:16:01 pm"
-    private static final DateTimeFormatter GOLDPRICEZ_DATE_FORMAT = 
-            DateTimeFormatter.ofPattern("dd-MM-yyyy hh:mm:ss a", Locale.ENGLISH);
-
     private final WebClient webClient;
     private final String apiKey;
-    private final ObjectMapper objectMapper;
+    private final GoldPricezPayloadParser payloadParser;
+    private final GoldPricezRateBudget rateBudget;
+    private final CircuitBreaker circuitBreaker;
+
+    // Per-process call counter used as the log correlation id (no UUID/SecureRandom on the hot path)
+    private final AtomicLong requestSequence = new AtomicLong();
 
     public GoldPricezClient(
             @Value("${goldpricez.base-url:https://goldpricez.com/api}") String baseUrl,
-            @Value("${goldpricez.api.key:}") String apiKey) {
+            @Value("${goldpricez.api.key:}") String apiKey,
+            GoldPricezRateBudget rateBudget,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            OutboundHttpClients outboundHttpClients) {
         this.apiKey = apiKey;
-        this.objectMapper = new ObjectMapper();
-        this.webClient = WebClient.builder()
+        this.rateBudget = rateBudget;
+        this.circuitBreaker = circuitBreakerRegistry.get(CircuitBreakerRegistry.GOLDPRICEZ);
+        this.payloadParser = new GoldPricezPayloadParser();
+        this.webClient = outboundHttpClients.builder(OutboundHttpClients.GOLDPRICEZ)
                 .baseUrl(baseUrl)
                 .defaultHeader("X-API-KEY", apiKey)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -61,179 +62,142 @@ public class GoldPricezClient {
     }
 
     /**
-     * Fetches the latest gold price (XAU/USD per ounce) from GoldPricez.
+     * Blocking variant for scheduled jobs; request handlers use {@link #latestGoldPrice(RequestPriority)}.
      * Throws GoldApiUnavailableException on any failure.
      */
-    @SuppressWarnings("unchecked")
-    public GoldPriceSnapshot fetchLatestGoldPrice() {
-        String requestId = UUID.randomUUID().toString().substring(0, 8);
-        MDC.put("requestId", requestId);
+    public GoldPriceSnapshot fetchLatestGoldPrice(RequestPriority priority) {
+        return latestGoldPrice(priority).block();
+    }
+
+    /**
+     * Fetches the latest gold price (XAU/USD per ounce) from GoldPricez without blocking.
+     * Errors with GoldApiUnavailableException on any failure, including an exhausted request budget
+     * (errorType=BUDGET_EXHAUSTED) or an open circuit (errorType=CIRCUIT_OPEN), in which case no HTTP
+     * call is made and no budget is spent.
+     */
+    public Mono<GoldPriceSnapshot> latestGoldPrice(RequestPriority priority) {
+        return Mono.defer(() -> {
+            String requestId = Long.toHexString(requestSequence.incrementAndGet());
 
-        try {
             if (apiKey == null || apiKey.isBlank()) {
                 log.error("[requestId={}] [errorType=CONFIG_ERROR] GoldPricez API key not configured", requestId);
-                throw new GoldApiUnavailableException(
+                return Mono.error(new GoldApiUnavailableException(
                         "GoldPricez API key not configured",
                         503,
                         "CONFIG_ERROR",
                         requestId
-                );
+                ));
             }
 
-            // GoldPricez API returns JSON with incorrect Content-Type (text/html or similar),
-            // causing Jackson's automatic deserialization to fail. We fetch as String and parse manually.
-            String responseBody;
-            try {
-                responseBody = webClient.get()
-                        .uri("/rates/currency/usd/measure/ounce")
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .block();
-            } catch (WebClientResponseException e) {
-                String errorType = mapStatusToErrorType(e.getStatusCode().value());
-                log.error("[requestId={}] [errorType={}] GoldPricez request failed: {} {}",
-                        requestId, errorType, e.getStatusCode().value(), e.getMessage());
-                throw new GoldApiUnavailableException(
-                        "GoldPricez request failed: " + e.getMessage(),
-                        e.getStatusCode().value(),
-                        errorType,
-                        requestId,
-                        e
-                );
-            }
-
-            if (responseBody == null || responseBody.isBlank()) {
-                log.error("[requestId={}] [errorType=NULL_RESPONSE] GoldPricez returned null or empty response", requestId);
-                throw new GoldApiUnavailableException(
-                        "GoldPricez returned null or empty response",
-                        502,
-                        "NULL_RESPONSE",
-                        requestId
-                );
+            if (!circuitBreaker.tryAcquirePermission()) {
+                log.debug("[requestId={}] [errorType=CIRCUIT_OPEN] GoldPricez circuit open, not calling provider", requestId);
+                return Mono.error(GoldApiUnavailableException.circuitOpen("GoldPricez", requestId));
             }
 
-            // Log raw response for debugging
-            log.debug("[requestId={}] Raw GoldPricez response: {}", requestId, responseBody);
-
-            // GoldPricez API may return JSON wrapped as a string (double-encoded).
-            // Example: "{\"ounce_price_usd\":\"4895.440\"}"
-            // We need to unwrap it first if it starts with a quote.
-            String jsonContent = unwrapJsonString(responseBody, requestId);
-            log.debug("[requestId={}] Unwrapped JSON content: {}", requestId, jsonContent);
-
-            // Parse JSON string using Jackson ObjectMapper into DTO
-            GoldPricezResponse response;
-            try {
-                response = objectMapper.readValue(jsonContent, GoldPricezResponse.class);
-            } catch (JsonProcessingException e) {
-                log.error("[requestId={}] [errorType=JSON_PARSE_ERROR] Invalid GoldPricez response: {}",
-                        requestId, e.getMessage());
-                throw new GoldPricezParseException(
-                        "Invalid GoldPricez response: " + e.getMessage(),
-                        requestId,
-                        responseBody,
-                        e
-                );
-            }
-
-            // Validate required field
-            if (response.getOuncePriceUsd() == null || response.getOuncePriceUsd().isBlank()) {
-                log.error("[requestId={}] [errorType=INVALID_RESPONSE] GoldPricez response missing ounce_price_usd field", requestId);
-                throw new GoldApiUnavailableException(
-                        "GoldPricez response missing ounce_price_usd field",
-                        502,
-                        "INVALID_RESPONSE",
+            if (!rateBudget.tryAcquire(priority)) {
+                circuitBreaker.releasePermission();
+                log.warn("[requestId={}] [errorType=BUDGET_EXHAUSTED] GoldPricez hourly budget used up, not calling provider ({})",
+                        requestId, priority);
+                return Mono.error(new GoldApiUnavailableException(
+                        "GoldPricez request budget exhausted",
+                        429,
+                        "BUDGET_EXHAUSTED",
                         requestId
-                );
+                ));
             }
 
-            // Convert price string to BigDecimal
-            BigDecimal price;
-            try {
-                price = new BigDecimal(response.getOuncePriceUsd());
-            } catch (NumberFormatException e) {
-                log.error("[requestId={}] [errorType=INVALID_RESPONSE] Invalid price format: {}",
-                        requestId, response.getOuncePriceUsd());
-                throw new GoldApiUnavailableException(
-                        "Invalid price format in GoldPricez response",
-                        502,
-                        "INVALID_RESPONSE",
-                        requestId,
-                        e
-                );
-            }
+            // GoldPricez API returns JSON with incorrect Content-Type (text/html or similar),
+            // so the body is taken as raw bytes and parsed by GoldPricezPayloadParser.
+            return webClient.get()
+                    .uri("/rates/currency/usd/measure/ounce")
+                    .retrieve()
+                    .bodyToMono(DataBuffer.class)
+                    .switchIfEmpty(Mono.defer(() -> {
+                        log.error("[requestId={}] [errorType=NULL_RESPONSE] GoldPricez returned null or empty response", requestId);
+                        return Mono.error(new GoldApiUnavailableException(
+                                "GoldPricez returned null or empty response",
+                                502,
+                                "NULL_RESPONSE",
+                                requestId
+                        ));
+                    }))
+                    .map(body -> {
+                        try {
+                            return payloadParser.parse(body, requestId);
+                        } finally {
+                            DataBufferUtils.release(body);
+                        }
+                    })
+                    .doOnNext(snapshot -> log.info("[requestId={}] Fetched gold price from GoldPricez: {} {}/{}",
+                            requestId, snapshot.getPrice(), snapshot.getCurrency(), snapshot.getUnit()))
+                    .onErrorMap(e -> translateError(e, requestId))
+                    .doOnNext(snapshot -> circuitBreaker.onSuccess())
+                    .doOnError(GoldApiUnavailableException.class, this::recordFailure)
+                    .doOnCancel(circuitBreaker::releasePermission);
+        });
+    }
 
-            // Parse timestamp from "gmt_ounce_price_usd_updated" field
-            LocalDateTime asOf = LocalDateTime.now();
-            if (response.getUpdatedAt() != null && !response.getUpdatedAt().isBlank()) {
-                try {
-                    asOf = LocalDateTime.parse(response.getUpdatedAt(), GOLDPRICEZ_DATE_FORMAT);
-                } catch (DateTimeParseException e) {
-                    log.debug("[requestId={}] Could not parse timestamp '{}', using current time", 
-                            requestId, response.getUpdatedAt());
-                }
-            }
+    /**
+     * Only provider-side faults (5xx, timeouts, unusable payloads) count against the circuit;
+     * a 4xx still proves the provider is reachable.
+     */
+    private void recordFailure(GoldApiUnavailableException e) {
+        if (e.isServerError()) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
 
-            GoldPriceSnapshot snapshot = GoldPriceSnapshot.builder()
-                    .price(price)
-                    .currency(CURRENCY)
-                    .unit(UNIT)
-                    .asOf(asOf)
-                    .source(SOURCE)
-                    .build();
-
-            log.info("[requestId={}] Fetched gold price from GoldPricez: {} {}/{}", 
-                    requestId, price, CURRENCY, UNIT);
-            return snapshot;
-
-        } catch (GoldApiUnavailableException e) {
-            throw e;
-        } catch (GoldPricezParseException e) {
-            throw new GoldApiUnavailableException(
+    private GoldApiUnavailableException translateError(Throwable error, String requestId) {
+        if (error instanceof GoldApiUnavailableException e) {
+            return e;
+        }
+        if (error instanceof GoldPricezParseException e) {
+            return new GoldApiUnavailableException(
                     e.getMessage(),
                     502,
                     "JSON_PARSE_ERROR",
                     e.getRequestId(),
                     e
             );
-        } catch (Exception e) {
-            log.error("[requestId={}] [errorType=UNEXPECTED_ERROR] Failed to fetch gold price from GoldPricez: {}",
-                    requestId, e.getMessage(), e);
-            throw new GoldApiUnavailableException(
-                    "Failed to fetch gold price from GoldPricez: " + e.getMessage(),
-                    502,
-                    "UNEXPECTED_ERROR",
+        }
+        if (error instanceof WebClientResponseException e) {
+            String errorType = mapStatusToErrorType(e.getStatusCode().value());
+            if (e.getStatusCode().value() == 429) {
+                rateBudget.onRateLimited(parseRetryAfter(e));
+            }
+            log.error("[requestId={}] [errorType={}] GoldPricez request failed: {} {}",
+                    requestId, errorType, e.getStatusCode().value(), e.getMessage());
+            return new GoldApiUnavailableException(
+                    "GoldPricez request failed: " + e.getMessage(),
+                    e.getStatusCode().value(),
+                    errorType,
                     requestId,
                     e
             );
-        } finally {
-            MDC.remove("requestId");
         }
+        log.error("[requestId={}] [errorType=UNEXPECTED_ERROR] Failed to fetch gold price from GoldPricez: {}",
+                requestId, error.getMessage(), error);
+        return new GoldApiUnavailableException(
+                "Failed to fetch gold price from GoldPricez: " + error.getMessage(),
+                502,
+                "UNEXPECTED_ERROR",
+                requestId,
+                error
+        );
     }
 
-    /**
-     * Unwraps a JSON string that may be double-encoded.
-     * GoldPricez sometimes returns: "{\"ounce_price_usd\":\"4895.440\"}"
-     * instead of: {"ounce_price_usd":"4895.440"}
-     */
-    private String unwrapJsonString(String responseBody, String requestId) {
-        String trimmed = responseBody.trim();
-        
-        // Check if response is a JSON string (starts and ends with quotes)
-        if (trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
-            try {
-                // Use Jackson to properly unescape the JSON string
-                String unwrapped = objectMapper.readValue(trimmed, String.class);
-                log.debug("[requestId={}] Response was double-encoded, unwrapped successfully", requestId);
-                return unwrapped;
-            } catch (JsonProcessingException e) {
-                log.warn("[requestId={}] Failed to unwrap JSON string, using original: {}", requestId, e.getMessage());
-                return trimmed;
-            }
+    private Duration parseRetryAfter(WebClientResponseException e) {
+        String retryAfter = e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException ex) {
+            return null;
         }
-        
-        // Response is already a proper JSON object
-        return trimmed;
     }
 
     private String mapStatusToErrorType(int status) {
@@ -0,0 +1,209 @@
+package com.goldlens.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.goldlens.dto.GoldPriceSnapshot;
+import com.goldlens.exception.GoldApiUnavailableException;
+import com.goldlens.exception.GoldPricezParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * Streaming parser for the GoldPricez rates payload.
+ *
+ * Reads tokens straight from the response DataBuffer and builds the snapshot without
+ * materialising the body, a response DTO or any field Strings. The double-encoded form
+ * ("{\"ounce_price_usd\":\"4895.440\"}") is handled by parsing the outer string token's
+ * unescaped character buffer in place.
+ */
+final class GoldPricezPayloadParser {
+
+    private static final Logger log = LoggerFactory.getLogger(GoldPricezPayloadParser.class);
+
+    static final String SOURCE = "GoldPricez";
+    static final String CURRENCY = "USD";
+    static final String UNIT = "oz";
+
+    private static final String PRICE_FIELD = "ounce_price_usd";
+    private static final String UPDATED_FIELD = "gmt_ounce_price_usd_updated";
+
+    // GoldPricez timestamp format: "19-12-2018 01:16:01 pm" (lower-case am/pm)
+    private static final DateTimeFormatter GOLDPRICEZ_DATE_FORMAT = new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .appendPattern("dd-MM-yyyy hh:mm:ss a")
+            .toFormatter(Locale.ENGLISH);
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Parses a GoldPricez response body. The buffer is not released.
+     *
+     * @throws GoldApiUnavailableException for an empty body or a missing/invalid price
+     * @throws GoldPricezParseException    for malformed JSON
+     */
+    GoldPriceSnapshot parse(DataBuffer body, String requestId) {
+        int start = body.readPosition();
+        int length = body.readableByteCount();
+
+        try (DataBuffer.ByteBufferIterator buffers = body.readableByteBuffers();
+             JsonParser parser = createParser(body, buffers)) {
+            return readPayload(parser, requestId);
+        } catch (JsonProcessingException e) {
+            log.error("[requestId={}] [errorType=JSON_PARSE_ERROR] Invalid GoldPricez response: {}",
+                    requestId, e.getOriginalMessage());
+            throw new GoldPricezParseException(
+                    "Invalid GoldPricez response: " + e.getOriginalMessage(),
+                    requestId,
+                    body.toString(start, length, StandardCharsets.UTF_8),
+                    e
+            );
+        } catch (IOException e) {
+            throw new GoldPricezParseException(
+                    "Failed to read GoldPricez response: " + e.getMessage(),
+                    requestId,
+                    null,
+                    e
+            );
+        }
+    }
+
+    /**
+     * Parses directly over the backing array when the body is a single heap buffer,
+     * otherwise streams it (pooled direct buffers from Netty).
+     */
+    private JsonParser createParser(DataBuffer body, DataBuffer.ByteBufferIterator buffers) throws IOException {
+        if (buffers.hasNext()) {
+            ByteBuffer first = buffers.next();
+            if (first.hasArray() && !buffers.hasNext()) {
+                return JSON_FACTORY.createParser(first.array(), first.arrayOffset() + first.position(), first.remaining());
+            }
+        }
+        return JSON_FACTORY.createParser(body.asInputStream());
+    }
+
+    private GoldPriceSnapshot readPayload(JsonParser parser, String requestId) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            log.error("[requestId={}] [errorType=NULL_RESPONSE] GoldPricez returned null or empty response", requestId);
+            throw new GoldApiUnavailableException(
+                    "GoldPricez returned null or empty response",
+                    502,
+                    "NULL_RESPONSE",
+                    requestId
+            );
+        }
+
+        if (token == JsonToken.VALUE_STRING) {
+            // Double-encoded: the outer token's text is the real document, already unescaped
+            log.debug("[requestId={}] Response was double-encoded, parsing inner document", requestId);
+            try (JsonParser inner = JSON_FACTORY.createParser(
+                    parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())) {
+                return readObject(inner, inner.nextToken(), requestId);
+            }
+        }
+
+        return readObject(parser, token, requestId);
+    }
+
+    private GoldPriceSnapshot readObject(JsonParser parser, JsonToken token, String requestId) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected JSON object but found " + token);
+        }
+
+        BigDecimal price = null;
+        LocalDateTime asOf = null;
+
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            if (PRICE_FIELD.equals(field)) {
+                price = readPrice(parser, value, requestId);
+            } else if (UPDATED_FIELD.equals(field)) {
+                asOf = readTimestamp(parser, value, requestId);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (price == null) {
+            log.error("[requestId={}] [errorType=INVALID_RESPONSE] GoldPricez response missing ounce_price_usd field", requestId);
+            throw new GoldApiUnavailableException(
+                    "GoldPricez response missing ounce_price_usd field",
+                    502,
+                    "INVALID_RESPONSE",
+                    requestId
+            );
+        }
+
+        return GoldPriceSnapshot.builder()
+                .price(price)
+                .currency(CURRENCY)
+                .unit(UNIT)
+                .asOf(asOf != null ? asOf : LocalDateTime.now())
+                .source(SOURCE)
+                .build();
+    }
+
+    private BigDecimal readPrice(JsonParser parser, JsonToken value, String requestId) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT || value == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDecimalValue();
+        }
+        if (value != JsonToken.VALUE_STRING || isBlank(parser)) {
+            parser.skipChildren();
+            return null;
+        }
+        try {
+            return new BigDecimal(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } catch (NumberFormatException e) {
+            log.error("[requestId={}] [errorType=INVALID_RESPONSE] Invalid price format: {}",
+                    requestId, parser.getText());
+            throw new GoldApiUnavailableException(
+                    "Invalid price format in GoldPricez response",
+                    502,
+                    "INVALID_RESPONSE",
+                    requestId,
+                    e
+            );
+        }
+    }
+
+    private LocalDateTime readTimestamp(JsonParser parser, JsonToken value, String requestId) throws IOException {
+        if (value != JsonToken.VALUE_STRING || isBlank(parser)) {
+            parser.skipChildren();
+            return null;
+        }
+        CharSequence text = CharBuffer.wrap(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        try {
+            return GOLDPRICEZ_DATE_FORMAT.parse(text, LocalDateTime::from);
+        } catch (DateTimeParseException e) {
+            log.debug("[requestId={}] Could not parse timestamp '{}', using current time", requestId, text);
+            return null;
+        }
+    }
+
+    private static boolean isBlank(JsonParser parser) throws IOException {
+        char[] chars = parser.getTextCharacters();
+        int end = parser.getTextOffset() + parser.getTextLength();
+        for (int i = parser.getTextOffset(); i < end; i++) {
+            if (!Character.isWhitespace(chars[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,148 @@
+package com.goldlens.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Request budget shared by every GoldPricez caller.
+ *
+ * Tracks the requests made in the last rolling hour (a sliding log of start times) against
+ * the provider quota. Interactive traffic may only use the budget minus the scheduler reserve,
+ * so the scheduled DB snapshots still go through at peak. A 429 from the provider closes the
+ * budget until its Retry-After (or the penalty) has passed.
+ */
+@Component
+public class GoldPricezRateBudget {
+
+    private static final Logger log = LoggerFactory.getLogger(GoldPricezRateBudget.class);
+
+    private static final long WINDOW_MILLIS = Duration.ofHours(1).toMillis();
+
+    private final int requestsPerHour;
+    private final int schedulerReserve;
+    private final Duration rateLimitPenalty;
+    private final LongSupplier clock;
+
+    // Circular log of request start times (epoch millis), oldest at head
+    private final long[] requestLog;
+    private int head;
+    private int size;
+    private long blockedUntilMillis;
+
+    private final Counter deniedScheduler;
+    private final Counter deniedInteractive;
+
+    @Autowired
+    public GoldPricezRateBudget(
+            MeterRegistry meterRegistry,
+            @Value("${goldpricez.budget.requests-per-hour:30}") int requestsPerHour,
+            @Value("${goldpricez.budget.scheduler-reserve:6}") int schedulerReserve,
+            @Value("${goldpricez.budget.rate-limit-penalty:PT15M}") Duration rateLimitPenalty) {
+        this(meterRegistry, requestsPerHour, schedulerReserve, rateLimitPenalty, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock wall clock in epoch millis; System::currentTimeMillis outside tests
+     */
+    GoldPricezRateBudget(MeterRegistry meterRegistry, int requestsPerHour, int schedulerReserve,
+                         Duration rateLimitPenalty, LongSupplier clock) {
+        this.clock = clock;
+        this.requestsPerHour = requestsPerHour;
+        this.schedulerReserve = Math.min(schedulerReserve, requestsPerHour);
+        this.rateLimitPenalty = rateLimitPenalty;
+        this.requestLog = new long[Math.max(1, requestsPerHour)];
+
+        Gauge.builder("goldlens.goldpricez.budget.remaining", this, b -> b.remaining(RequestPriority.SCHEDULER))
+                .description("GoldPricez requests left in the rolling hour")
+                .tag("priority", "scheduler")
+                .register(meterRegistry);
+        Gauge.builder("goldlens.goldpricez.budget.remaining", this, b -> b.remaining(RequestPriority.INTERACTIVE))
+                .description("GoldPricez requests left in the rolling hour")
+                .tag("priority", "interactive")
+                .register(meterRegistry);
+        this.deniedScheduler = deniedCounter(meterRegistry, "scheduler");
+        this.deniedInteractive = deniedCounter(meterRegistry, "interactive");
+    }
+
+    /**
+     * Takes one request from the budget. Returns false if the caller must not hit GoldPricez.
+     */
+    public synchronized boolean tryAcquire(RequestPriority priority) {
+        long now = clock.getAsLong();
+        evictExpired(now);
+
+        if (now < blockedUntilMillis || size >= limitFor(priority)) {
+            (priority == RequestPriority.SCHEDULER ? deniedScheduler : deniedInteractive).increment();
+            log.debug("[budget] Denied {} GoldPricez request: used={}/{}, blockedUntil={}",
+                    priority, size, requestsPerHour, blockedUntilMillis);
+            return false;
+        }
+
+        requestLog[(head + size) % requestLog.length] = now;
+        size++;
+        return true;
+    }
+
+    /**
+     * Called when GoldPricez answers 429 despite the budget: stop calling until it has cooled down.
+     */
+    public synchronized void onRateLimited(Duration retryAfter) {
+        Duration wait = retryAfter != null ? retryAfter : rateLimitPenalty;
+        blockedUntilMillis = Math.max(blockedUntilMillis, clock.getAsLong() + wait.toMillis());
+        log.warn("[budget] GoldPricez rate limited us, pausing calls until {}", Instant.ofEpochMilli(blockedUntilMillis));
+    }
+
+    public synchronized int remaining(RequestPriority priority) {
+        long now = clock.getAsLong();
+        evictExpired(now);
+        if (now < blockedUntilMillis) {
+            return 0;
+        }
+        return Math.max(0, limitFor(priority) - size);
+    }
+
+    public synchronized Map<String, Object> describe() {
+        long now = clock.getAsLong();
+        evictExpired(now);
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("requestsPerHour", requestsPerHour);
+        details.put("schedulerReserve", schedulerReserve);
+        details.put("usedLastHour", size);
+        details.put("remainingScheduler", remaining(RequestPriority.SCHEDULER));
+        details.put("remainingInteractive", remaining(RequestPriority.INTERACTIVE));
+        details.put("blockedUntil", now < blockedUntilMillis ? Instant.ofEpochMilli(blockedUntilMillis).toString() : null);
+        details.put("nextSlotAt", size > 0 ? Instant.ofEpochMilli(requestLog[head] + WINDOW_MILLIS).toString() : null);
+        return details;
+    }
+
+    private int limitFor(RequestPriority priority) {
+        return priority == RequestPriority.SCHEDULER ? requestsPerHour : requestsPerHour - schedulerReserve;
+    }
+
+    private void evictExpired(long now) {
+        while (size > 0 && now - requestLog[head] >= WINDOW_MILLIS) {
+            head = (head + 1) % requestLog.length;
+            size--;
+        }
+    }
+
+    private static Counter deniedCounter(MeterRegistry meterRegistry, String priority) {
+        return Counter.builder("goldlens.goldpricez.budget.denied")
+                .description("GoldPricez calls refused because the hourly budget was used up")
+                .tag("priority", priority)
+                .register(meterRegistry);
+    }
+}
@@ -2,6 +2,7 @@ package com.goldlens.client;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldlens.config.OutboundHttpClients;
 import com.goldlens.dto.GoldNewsItem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,6 +11,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -31,46 +33,53 @@ public class NewsApiClient {
 
     public NewsApiClient(
             @Value("${news.primary.base-url:https://newsapi.org/v2}") String baseUrl,
-            @Value("${news.primary.api-key:}") String apiKey) {
+            @Value("${news.primary.api-key:}") String apiKey,
+            OutboundHttpClients outboundHttpClients) {
         this.apiKey = apiKey;
         this.objectMapper = new ObjectMapper();
-        this.webClient = WebClient.builder()
+        this.webClient = outboundHttpClients.builder(OutboundHttpClients.NEWSAPI)
                 .baseUrl(baseUrl)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
 
-    public Optional<List<GoldNewsItem>> fetchGoldNews() {
+    /**
+     * Fetches recent gold-related articles. Completes empty if the provider is unconfigured or fails.
+     */
+    public Mono<List<GoldNewsItem>> fetchGoldNews() {
         if (apiKey == null || apiKey.isBlank()) {
             log.warn("[NewsAPI] API key not configured");
-            return Optional.empty();
+            return Mono.empty();
         }
 
-        try {
-            String fromDate = Instant.now().minus(72, ChronoUnit.HOURS).toString().substring(0, 10);
-            
-            // Strict gold-focused query - only gold and macro factors affecting gold
-            String query = "gold OR \"gold price\" OR \"precious metals\" OR \"Federal Reserve\" OR \"interest rate\" OR \"real yields\" OR DXY OR \"central bank\"";
-
-            String responseBody = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/everything")
-                            .queryParam("q", query)
-                            .queryParam("from", fromDate)
-                            .queryParam("sortBy", "relevancy")
-                            .queryParam("language", "en")
-                            .queryParam("pageSize", MAX_ARTICLES)
-                            .queryParam("apiKey", apiKey)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            if (responseBody == null || responseBody.isBlank()) {
-                log.warn("[NewsAPI] Empty response");
-                return Optional.empty();
-            }
+        String fromDate = Instant.now().minus(72, ChronoUnit.HOURS).toString().substring(0, 10);
+
+        // Strict gold-focused query - only gold and macro factors affecting gold
+        String query = "gold OR \"gold price\" OR \"precious metals\" OR \"Federal Reserve\" OR \"interest rate\" OR \"real yields\" OR DXY OR \"central bank\"";
+
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/everything")
+                        .queryParam("q", query)
+                        .queryParam("from", fromDate)
+                        .queryParam("sortBy", "relevancy")
+                        .queryParam("language", "en")
+                        .queryParam("pageSize", MAX_ARTICLES)
+                        .queryParam("apiKey", apiKey)
+                        .build())
+                .retrieve()
+                .bodyToMono(String.class)
+                .filter(responseBody -> !responseBody.isBlank())
+                .switchIfEmpty(Mono.fromRunnable(() -> log.warn("[NewsAPI] Empty response")))
+                .flatMap(responseBody -> Mono.justOrEmpty(parseArticles(responseBody)))
+                .onErrorResume(e -> {
+                    log.error("[NewsAPI] Failed to fetch news: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
 
+    private Optional<List<GoldNewsItem>> parseArticles(String responseBody) {
+        try {
             log.debug("[NewsAPI] Raw response: {}", responseBody);
 
             JsonNode root = objectMapper.readTree(responseBody);
@@ -97,7 +106,7 @@ public class NewsApiClient {
             return Optional.of(items);
 
         } catch (Exception e) {
-            log.error("[NewsAPI] Failed to fetch news: {}", e.getMessage());
+            log.error("[NewsAPI] Failed to parse news: {}", e.getMessage());
             return Optional.empty();
         }
     }
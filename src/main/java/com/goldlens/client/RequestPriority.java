@@ -0,0 +1,10 @@
+package com.goldlens.client;
+
+/**
+ * Who is asking for an upstream call. Scheduled ingestion keeps a reserved slice of a
+ * provider's request budget so user traffic cannot starve it.
+ */
+public enum RequestPriority {
+    SCHEDULER,
+    INTERACTIVE
+}
@@ -0,0 +1,44 @@
+package com.goldlens.config;
+
+import com.goldlens.backfill.BackgroundJob;
+import com.goldlens.backfill.BootstrapJobManager;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.boot.health.contributor.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * "bootstrap" health contributor: UP once every startup job succeeded, UNKNOWN while any is
+ * still pending or running, BOOTSTRAP_FAILED if one failed. Deliberately not part of the
+ * readiness group, so backfills never hold back traffic.
+ *
+ * BOOTSTRAP_FAILED is a custom status: the default status order ignores it (as it does
+ * UNKNOWN), so a failed job leaves the root /actuator/health aggregate UP. Only the
+ * "bootstrap" group, which orders and maps it to 503 in application.yml, reports it.
+ */
+@Component
+public class BootstrapHealthIndicator implements HealthIndicator {
+
+    static final Status FAILED = new Status("BOOTSTRAP_FAILED", "A background startup job failed");
+
+    private final BootstrapJobManager bootstrapJobManager;
+
+    public BootstrapHealthIndicator(BootstrapJobManager bootstrapJobManager) {
+        this.bootstrapJobManager = bootstrapJobManager;
+    }
+
+    @Override
+    public Health health() {
+        boolean running = false;
+        boolean failed = false;
+        for (BackgroundJob job : bootstrapJobManager.getJobs()) {
+            running |= !job.isFinished();
+            failed |= job.getStatus() == BackgroundJob.Status.FAILED;
+        }
+
+        Status status = failed ? FAILED : running ? Status.UNKNOWN : Status.UP;
+        return Health.status(status)
+                .withDetails(bootstrapJobManager.describe())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.goldlens.config;
+
+import com.goldlens.backfill.BootstrapJobManager;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Exposes background startup jobs and their progress at /actuator/jobs.
+ */
+@Component
+@Endpoint(id = "jobs")
+public class BootstrapJobsEndpoint {
+
+    private final BootstrapJobManager bootstrapJobManager;
+
+    public BootstrapJobsEndpoint(BootstrapJobManager bootstrapJobManager) {
+        this.bootstrapJobManager = bootstrapJobManager;
+    }
+
+    @ReadOperation
+    public Map<String, Object> jobs() {
+        return bootstrapJobManager.describe();
+    }
+}
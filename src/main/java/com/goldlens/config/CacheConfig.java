@@ -1,13 +1,14 @@
 package com.goldlens.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
 @Configuration
 @EnableCaching
@@ -16,11 +17,15 @@ public class CacheConfig {
     public static final String GOLD_PRICE_CACHE = "goldPriceCache";
     public static final String GOLD_PRICE_CACHE_KEY = "gold.latest.usd.ounce";
 
+    /**
+     * Entries are refreshed by GoldPriceService once they pass the soft TTL; eviction
+     * only happens after max-stale, so a slow or failing refresh never empties the cache.
+     */
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(@Value("${goldpricez.cache.max-stale:PT1H}") Duration maxStale) {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(GOLD_PRICE_CACHE);
         cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(45, TimeUnit.SECONDS)
+                .expireAfterWrite(maxStale)
                 .maximumSize(100));
         return cacheManager;
     }
@@ -1,20 +1,25 @@
 package com.goldlens.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
+@EnableConfigurationProperties(FredSeriesProperties.class)
 public class FredConfig {
 
     @Value("${fred.api.key}")
     private String apiKey;
 
+    @Value("${fred.base-url:https://api.stlouisfed.org/fred}")
+    private String baseUrl;
+
     @Bean
-    public WebClient fredWebClient() {
-        return WebClient.builder()
-                .baseUrl("https://api.stlouisfed.org/fred")
+    public WebClient fredWebClient(OutboundHttpClients outboundHttpClients) {
+        return outboundHttpClients.builder(OutboundHttpClients.FRED)
+                .baseUrl(baseUrl)
                 .build();
     }
 
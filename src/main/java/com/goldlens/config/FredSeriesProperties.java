@@ -0,0 +1,45 @@
+package com.goldlens.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registry of macro indicators ingested from FRED. Adding an indicator is a new
+ * series entry here; FredIngestionPipeline and HistoricalBackfillService pick it up.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "goldlens.fred")
+public class FredSeriesProperties {
+
+    private List<Series> series = new ArrayList<>();
+
+    // How far back the first sync of a series with no stored data starts
+    private Duration initialLookback = Duration.ofDays(90);
+
+    // Re-read behind the watermark on every run so FRED revisions and late backfills are picked up
+    private Duration revisionWindow = Duration.ofDays(14);
+
+    // Max observations requested per series per run
+    private int fetchLimit = 1000;
+
+    @Getter
+    @Setter
+    public static class Series {
+
+        private String indicatorCode;
+        private String seriesId;
+        private String name;
+        private String unit;
+
+        public boolean isValid() {
+            return indicatorCode != null && !indicatorCode.isBlank()
+                    && seriesId != null && !seriesId.isBlank();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.goldlens.config;
+
+import com.goldlens.client.GoldPricezRateBudget;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Exposes the GoldPricez request budget at /actuator/goldpricez.
+ */
+@Component
+@Endpoint(id = "goldpricez")
+public class GoldPricezBudgetEndpoint {
+
+    private final GoldPricezRateBudget rateBudget;
+
+    public GoldPricezBudgetEndpoint(GoldPricezRateBudget rateBudget) {
+        this.rateBudget = rateBudget;
+    }
+
+    @ReadOperation
+    public Map<String, Object> budget() {
+        return rateBudget.describe();
+    }
+}
@@ -0,0 +1,15 @@
+package com.goldlens.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class HttpClientConfig {
+
+    @Bean
+    public OutboundHttpClients outboundHttpClients(HttpClientProperties properties) {
+        return new OutboundHttpClients(properties);
+    }
+}
@@ -0,0 +1,68 @@
+package com.goldlens.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Connection pool and timeout settings for outbound HTTP clients.
+ * Each provider entry only overrides what it sets; everything else comes from defaults.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "goldlens.http")
+public class HttpClientProperties {
+
+    private Pool defaults = Pool.defaults();
+    private Map<String, Pool> providers = new HashMap<>();
+
+    public Pool forProvider(String provider) {
+        Pool override = providers.get(provider);
+        return override != null ? override.withFallback(defaults) : defaults;
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private Duration connectTimeout;
+        private Duration responseTimeout;
+        private Integer maxConnections;
+        private Duration pendingAcquireTimeout;
+        // How long an idle connection is kept for reuse; longer than the call interval avoids a new TLS handshake per call
+        private Duration maxIdleTime;
+        private Duration maxLifeTime;
+        private Boolean compression;
+        private Boolean http2;
+
+        static Pool defaults() {
+            Pool pool = new Pool();
+            pool.connectTimeout = Duration.ofSeconds(5);
+            pool.responseTimeout = Duration.ofSeconds(15);
+            pool.maxConnections = 8;
+            pool.pendingAcquireTimeout = Duration.ofSeconds(10);
+            pool.maxIdleTime = Duration.ofMinutes(5);
+            pool.maxLifeTime = Duration.ofMinutes(30);
+            pool.compression = true;
+            pool.http2 = false;
+            return pool;
+        }
+
+        Pool withFallback(Pool fallback) {
+            Pool pool = new Pool();
+            pool.connectTimeout = connectTimeout != null ? connectTimeout : fallback.connectTimeout;
+            pool.responseTimeout = responseTimeout != null ? responseTimeout : fallback.responseTimeout;
+            pool.maxConnections = maxConnections != null ? maxConnections : fallback.maxConnections;
+            pool.pendingAcquireTimeout = pendingAcquireTimeout != null ? pendingAcquireTimeout : fallback.pendingAcquireTimeout;
+            pool.maxIdleTime = maxIdleTime != null ? maxIdleTime : fallback.maxIdleTime;
+            pool.maxLifeTime = maxLifeTime != null ? maxLifeTime : fallback.maxLifeTime;
+            pool.compression = compression != null ? compression : fallback.compression;
+            pool.http2 = http2 != null ? http2 : fallback.http2;
+            return pool;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.goldlens.config;
+
+import com.goldlens.domain.JobRun;
+import com.goldlens.service.JobLedgerService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exposes the 50 most recent scheduled job runs from the job_runs ledger at /actuator/jobruns.
+ */
+@Component
+@Endpoint(id = "jobruns")
+public class JobRunsEndpoint {
+
+    private final JobLedgerService jobLedgerService;
+
+    public JobRunsEndpoint(JobLedgerService jobLedgerService) {
+        this.jobLedgerService = jobLedgerService;
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> jobRuns() {
+        return jobLedgerService.findRecent().stream()
+                .map(JobRunsEndpoint::describe)
+                .toList();
+    }
+
+    private static Map<String, Object> describe(JobRun run) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("job", run.getJobName());
+        details.put("scheduledFor", run.getScheduledFor().toString());
+        details.put("status", run.getStatus().name());
+        details.put("owner", run.getOwner());
+        details.put("attempts", run.getAttempts());
+        details.put("startedAt", run.getStartedAt().toString());
+        if (run.getFinishedAt() != null) {
+            details.put("finishedAt", run.getFinishedAt().toString());
+        }
+        if (run.getRowsWritten() != null) {
+            details.put("rowsWritten", run.getRowsWritten());
+        }
+        if (run.getError() != null) {
+            details.put("error", run.getError());
+        }
+        return details;
+    }
+}
@@ -0,0 +1,109 @@
+package com.goldlens.config;
+
+import io.netty.channel.ChannelOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Single place where outbound WebClients are built.
+ *
+ * Every provider gets its own Reactor Netty connection pool (so a slow news API cannot
+ * starve GoldPricez of connections), connect/response timeouts, gzip, TCP keep-alive and
+ * pool metrics (reactor.netty.connection.provider.*, tagged by provider name).
+ * Idle connections are kept long enough to be reused by our once-per-interval calls,
+ * and the Netty event loop, resolver and TLS stack are initialised at startup rather than
+ * on the first upstream request.
+ */
+public class OutboundHttpClients implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboundHttpClients.class);
+
+    public static final String GOLDPRICEZ = "goldpricez";
+    public static final String GOLDAPI = "goldapi";
+    public static final String NEWSAPI = "newsapi";
+    public static final String GNEWS = "gnews";
+    public static final String GEMINI = "gemini";
+    public static final String FRED = "fred";
+
+    private final HttpClientProperties properties;
+    private final Map<String, HttpClient> httpClients = new ConcurrentHashMap<>();
+    private final Map<String, ConnectionProvider> connectionProviders = new ConcurrentHashMap<>();
+
+    public OutboundHttpClients(HttpClientProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Returns a WebClient builder wired to the provider's pool. Callers add base URL and headers.
+     */
+    public WebClient.Builder builder(String provider) {
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient(provider)));
+    }
+
+    private HttpClient httpClient(String provider) {
+        return httpClients.computeIfAbsent(provider, this::createHttpClient);
+    }
+
+    private HttpClient createHttpClient(String provider) {
+        HttpClientProperties.Pool pool = properties.forProvider(provider);
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(provider)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(Duration.ofMinutes(1))
+                .metrics(true)
+                .build();
+        connectionProviders.put(provider, connectionProvider);
+
+        HttpClient client = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(pool.getResponseTimeout())
+                .compress(pool.getCompression())
+                // Paths are fixed per client, so the uri tag stays low-cardinality
+                .metrics(true, Function.identity());
+
+        if (pool.getHttp2()) {
+            // Negotiated via ALPN; falls back to HTTP/1.1 if the server does not offer h2
+            client = client.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        log.info("[http] Pool '{}': maxConnections={}, maxIdle={}, connectTimeout={}, responseTimeout={}, h2={}",
+                provider, pool.getMaxConnections(), pool.getMaxIdleTime(),
+                pool.getConnectTimeout(), pool.getResponseTimeout(), pool.getHttp2());
+        return client;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmup() {
+        httpClients.forEach((provider, client) -> {
+            try {
+                client.warmup().block(Duration.ofSeconds(10));
+            } catch (Exception e) {
+                log.warn("[http] Warmup for '{}' failed: {}", provider, e.getMessage());
+            }
+        });
+        log.info("[http] Warmed up {} outbound HTTP clients", httpClients.size());
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.values().forEach(ConnectionProvider::dispose);
+    }
+}
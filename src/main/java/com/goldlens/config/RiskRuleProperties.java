@@ -0,0 +1,72 @@
+package com.goldlens.config;
+
+import com.goldlens.domain.RiskLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gold risk aggregation rules, compiled at startup into RiskDecisionTable. Adding an input
+ * indicator is a new entry in `inputs` (and rules mentioning it, if any); no code changes.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "goldlens.risk")
+public class RiskRuleProperties {
+
+    // Signals feeding the risk snapshot, in the order rule patterns refer to them
+    private List<Input> inputs = new ArrayList<>();
+
+    // Applied whenever any input has no signal yet
+    private Outcome incomplete = new Outcome();
+
+    // Checked in order, first match wins
+    private List<Rule> rules = new ArrayList<>();
+
+    // Used when no rule matches
+    private Fallback fallback = new Fallback();
+
+    @Getter
+    @Setter
+    public static class Input {
+
+        private String indicatorCode;
+        private double weight = 1.0;
+    }
+
+    @Getter
+    @Setter
+    public static class Outcome {
+
+        private RiskLevel level = RiskLevel.MEDIUM;
+        private String reason;
+    }
+
+    /**
+     * One pattern per input, in input order: GREEN, YELLOW, RED, alternatives such as RED|YELLOW,
+     * or * for any. Inputs past the end of the list match anything.
+     */
+    @Getter
+    @Setter
+    public static class Rule extends Outcome {
+
+        private List<String> match = new ArrayList<>();
+    }
+
+    /**
+     * Weighted score of the inputs (RED +1, YELLOW 0, GREEN -1), normalised to [-1, 1].
+     */
+    @Getter
+    @Setter
+    public static class Fallback {
+
+        private double highThreshold = 0.5;
+        private double lowThreshold = -0.5;
+        private String highReason = "Weighted indicator signals lean bearish for gold";
+        private String mediumReason = "Weighted indicator signals are mixed for gold";
+        private String lowReason = "Weighted indicator signals lean supportive for gold";
+    }
+}
@@ -0,0 +1,81 @@
+package com.goldlens.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Duration;
+
+/**
+ * Task scheduler for all @Scheduled jobs, so a slow FRED or GoldPricez call in one job
+ * no longer delays the others behind Spring's single default scheduler thread.
+ *
+ * goldlens.execution.virtual-threads=true: each run gets its own virtual thread (capped by
+ * concurrency-limit); otherwise a small platform thread pool is used.
+ * The scheduler is not exposed as a bean so Boot's applicationTaskExecutor stays in place.
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulingConfig.class);
+
+    private final boolean virtualThreads;
+    private final int poolSize;
+    private final int concurrencyLimit;
+    private final Duration shutdownTimeout;
+
+    private AutoCloseable scheduler;
+
+    public SchedulingConfig(
+            @Value("${goldlens.execution.virtual-threads:false}") boolean virtualThreads,
+            @Value("${goldlens.execution.scheduler.pool-size:4}") int poolSize,
+            @Value("${goldlens.execution.scheduler.concurrency-limit:32}") int concurrencyLimit,
+            @Value("${goldlens.execution.scheduler.shutdown-timeout:PT30S}") Duration shutdownTimeout) {
+        this.virtualThreads = virtualThreads;
+        this.poolSize = poolSize;
+        this.concurrencyLimit = concurrencyLimit;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(virtualThreads ? virtualThreadScheduler() : platformThreadScheduler());
+    }
+
+    private TaskScheduler virtualThreadScheduler() {
+        SimpleAsyncTaskScheduler taskScheduler = new SimpleAsyncTaskScheduler();
+        taskScheduler.setVirtualThreads(true);
+        taskScheduler.setThreadNamePrefix("sched-vt-");
+        taskScheduler.setConcurrencyLimit(concurrencyLimit);
+        taskScheduler.setTaskTerminationTimeout(shutdownTimeout.toMillis());
+        scheduler = taskScheduler;
+        log.info("[scheduler] Running scheduled jobs on virtual threads (concurrency limit {})", concurrencyLimit);
+        return taskScheduler;
+    }
+
+    private TaskScheduler platformThreadScheduler() {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("sched-");
+        taskScheduler.setWaitForTasksToCompleteOnShutdown(true);
+        taskScheduler.setAwaitTerminationMillis(shutdownTimeout.toMillis());
+        taskScheduler.initialize();
+        scheduler = taskScheduler::shutdown;
+        log.info("[scheduler] Running scheduled jobs on {} platform threads", poolSize);
+        return taskScheduler;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (scheduler != null) {
+            scheduler.close();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.goldlens.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({SignalProperties.class, RiskRuleProperties.class})
+public class SignalConfig {
+}
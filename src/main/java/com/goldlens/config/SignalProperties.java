@@ -0,0 +1,28 @@
+package com.goldlens.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Signal engine settings. A signal compares the last `window` observations of an indicator:
+ * all rising → RED, all falling → GREEN, otherwise YELLOW.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "goldlens.signals")
+public class SignalProperties {
+
+    // Observations per trend window (at least 2)
+    private int window = 3;
+
+    // Per-indicator overrides, keyed by indicator code
+    private Map<String, Integer> windows = new HashMap<>();
+
+    public int windowFor(String indicatorCode) {
+        return Math.max(2, windows.getOrDefault(indicatorCode, window));
+    }
+}
@@ -13,9 +13,11 @@ public class StartupLogger {
     private static final Logger log = LoggerFactory.getLogger(StartupLogger.class);
 
     private final Environment environment;
+    private final FredSeriesProperties fredSeriesProperties;
 
-    public StartupLogger(Environment environment) {
+    public StartupLogger(Environment environment, FredSeriesProperties fredSeriesProperties) {
         this.environment = environment;
+        this.fredSeriesProperties = fredSeriesProperties;
     }
 
     @EventListener(ApplicationReadyEvent.class)
@@ -43,11 +45,17 @@ public class StartupLogger {
         logApiKeyStatus("GEMINI_API_KEY", environment.getProperty("gemini.api.key"));
         logApiKeyStatus("GOLDPRICEZ_API_KEY", environment.getProperty("goldpricez.api.key"));
 
+        // Log execution mode
+        boolean virtualThreads = environment.getProperty("goldlens.execution.virtual-threads", Boolean.class, false);
+        log.info("Execution mode: {}", virtualThreads ? "virtual threads" : "platform threads");
+
         // Log scheduler status
-        log.info("RealYieldScheduler enabled (cron: 0 0 6 * * * - daily 06:00 UTC)");
-        log.info("DxyScheduler enabled (cron: 0 5 6 * * * - daily 06:05 UTC)");
-        log.info("GoldRiskScheduler enabled (cron: 0 10 6 * * * - daily 06:10 UTC)");
-        log.info("GoldPriceScheduler enabled (cron: 0 */15 * * * * - every 15 minutes)");
+        log.info("FredIngestionPipeline enabled (cron: {} - {} FRED series)",
+                environment.getProperty("goldlens.fred.ingest-cron", "0 0 6 * * *"),
+                fredSeriesProperties.getSeries().size());
+        log.info("GoldRiskScheduler enabled as safety net (cron: {})",
+                environment.getProperty("goldlens.risk.safety-net-cron", "0 0 9 * * *"));
+        log.info("GoldPriceScheduler enabled (cron: 0 0 */6 * * * - every 6 hours)");
 
         log.info("=== Startup Complete ===");
     }
@@ -20,11 +20,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * AI explanations. Database lookups run on the request thread; the Gemini call is returned as a Mono,
+ * so the servlet thread is released for the (up to 30 s) model round trip.
+ */
 @RestController
 @RequestMapping("/api/ai")
 public class AiController {
@@ -51,76 +56,67 @@ public class AiController {
     }
 
     @PostMapping("/explain/indicator")
-    public ResponseEntity<ExplainIndicatorResponse> explainIndicator(
+    public Mono<ResponseEntity<ExplainIndicatorResponse>> explainIndicator(
             @Valid @RequestBody ExplainIndicatorRequest request) {
 
         Optional<Indicator> indicatorOpt = indicatorService.findByCode(request.getIndicatorCode());
         if (indicatorOpt.isEmpty()) {
-            return ResponseEntity.notFound().build();
+            return Mono.just(ResponseEntity.notFound().build());
         }
 
         Indicator indicator = indicatorOpt.get();
         Optional<IndicatorValue> latestValueOpt = indicatorValueService.findLatestByIndicator(indicator);
         if (latestValueOpt.isEmpty()) {
-            return ResponseEntity.notFound().build();
+            return Mono.just(ResponseEntity.notFound().build());
         }
 
-        String explanation = explainService.explainIndicator(indicator, latestValueOpt.get());
-
-        ExplainIndicatorResponse response = ExplainIndicatorResponse.builder()
-                .indicatorCode(indicator.getCode())
-                .explanation(explanation)
-                .build();
-
-        return ResponseEntity.ok(response);
+        return explainService.explainIndicator(indicator, latestValueOpt.get())
+                .map(explanation -> ResponseEntity.ok(ExplainIndicatorResponse.builder()
+                        .indicatorCode(indicator.getCode())
+                        .explanation(explanation)
+                        .build()));
     }
 
     @PostMapping("/explain/signal")
-    public ResponseEntity<ExplainSignalResponse> explainSignal(
+    public Mono<ResponseEntity<ExplainSignalResponse>> explainSignal(
             @Valid @RequestBody ExplainSignalRequest request) {
 
         Optional<Indicator> indicatorOpt = indicatorService.findByCode(request.getIndicatorCode());
         if (indicatorOpt.isEmpty()) {
-            return ResponseEntity.notFound().build();
+            return Mono.just(ResponseEntity.notFound().build());
         }
 
         Indicator indicator = indicatorOpt.get();
         Optional<Signal> signalOpt = signalEngineService.findLatestByIndicator(indicator);
         if (signalOpt.isEmpty()) {
-            return ResponseEntity.notFound().build();
+            return Mono.just(ResponseEntity.notFound().build());
         }
 
         Signal signal = signalOpt.get();
-        String explanation = explainService.explainSignal(signal);
-
-        ExplainSignalResponse response = ExplainSignalResponse.builder()
-                .indicatorCode(indicator.getCode())
-                .signalType(signal.getSignalType())
-                .explanation(explanation)
-                .build();
-
-        return ResponseEntity.ok(response);
+        return explainService.explainSignal(signal)
+                .map(explanation -> ResponseEntity.ok(ExplainSignalResponse.builder()
+                        .indicatorCode(indicator.getCode())
+                        .signalType(signal.getSignalType())
+                        .explanation(explanation)
+                        .build()));
     }
 
     @PostMapping("/explain/gold-risk")
-    public ResponseEntity<ExplainGoldRiskResponse> explainGoldRisk() {
+    public Mono<ResponseEntity<ExplainGoldRiskResponse>> explainGoldRisk() {
         Optional<GoldRiskSnapshot> snapshotOpt = goldRiskAggregationService.findLatest();
         if (snapshotOpt.isEmpty()) {
-            return ResponseEntity.notFound().build();
+            return Mono.just(ResponseEntity.notFound().build());
         }
 
         GoldRiskSnapshot snapshot = snapshotOpt.get();
         List<Signal> signals = collectLatestSignals();
 
-        String explanation = explainService.explainGoldRisk(snapshot, signals);
-
-        ExplainGoldRiskResponse response = ExplainGoldRiskResponse.builder()
-                .riskLevel(snapshot.getRiskLevel())
-                .asOfDate(snapshot.getAsOfDate())
-                .explanation(explanation)
-                .build();
-
-        return ResponseEntity.ok(response);
+        return explainService.explainGoldRisk(snapshot, signals)
+                .map(explanation -> ResponseEntity.ok(ExplainGoldRiskResponse.builder()
+                        .riskLevel(snapshot.getRiskLevel())
+                        .asOfDate(snapshot.getAsOfDate())
+                        .explanation(explanation)
+                        .build()));
     }
 
     private List<Signal> collectLatestSignals() {
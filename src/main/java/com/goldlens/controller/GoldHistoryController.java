@@ -1,8 +1,10 @@
 package com.goldlens.controller;
 
+import com.goldlens.domain.GoldPriceDailyBar;
 import com.goldlens.domain.GoldPriceHistory;
 import com.goldlens.dto.GoldPriceHistoryDto;
 import com.goldlens.service.GoldPriceHistoryService;
+import com.goldlens.service.GoldPriceTickService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
@@ -11,9 +13,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @RestController
 @RequestMapping("/api/gold/price")
@@ -26,14 +31,19 @@ public class GoldHistoryController {
     private static final int MIN_HISTORY_POINTS = 7;
 
     private final GoldPriceHistoryService goldPriceHistoryService;
+    private final GoldPriceTickService goldPriceTickService;
 
-    public GoldHistoryController(GoldPriceHistoryService goldPriceHistoryService) {
+    public GoldHistoryController(GoldPriceHistoryService goldPriceHistoryService,
+                                 GoldPriceTickService goldPriceTickService) {
         this.goldPriceHistoryService = goldPriceHistoryService;
+        this.goldPriceTickService = goldPriceTickService;
     }
 
     /**
      * Returns gold price history from DB snapshots.
      * GoldPricez does not support historical data directly - history is built over time via scheduled snapshots.
+     * Days covered by intraday ticks are served from the pre-aggregated daily bars (close as value, plus OHLC);
+     * older backfilled days fall back to the one-row-per-day history table.
      */
     @GetMapping("/history")
     public ResponseEntity<GoldPriceHistoryDto> getHistory(
@@ -42,9 +52,10 @@ public class GoldHistoryController {
         int cappedDays = Math.min(Math.max(days, 1), 120);
         LocalDate sinceDate = LocalDate.now().minusDays(cappedDays);
         List<GoldPriceHistory> history = goldPriceHistoryService.findHistorySince(sinceDate);
+        List<GoldPriceDailyBar> bars = goldPriceTickService.findBarsSince(sinceDate);
 
         // Check if we have enough data points
-        if (history.isEmpty()) {
+        if (history.isEmpty() && bars.isEmpty()) {
             log.info("No historical data available");
             
             GoldPriceHistoryDto response = GoldPriceHistoryDto.builder()
@@ -58,16 +69,28 @@ public class GoldHistoryController {
             return ResponseEntity.ok(response);
         }
 
-        if (history.size() < MIN_HISTORY_POINTS) {
-            log.info("Insufficient history data: {} points (min: {})", history.size(), MIN_HISTORY_POINTS);
+        Map<LocalDate, GoldPriceHistoryDto.DataPoint> byDate = new TreeMap<>();
+        for (GoldPriceHistory h : history) {
+            byDate.put(h.getDate(), GoldPriceHistoryDto.DataPoint.builder()
+                    .date(h.getDate())
+                    .value(h.getPrice())
+                    .build());
+        }
+        for (GoldPriceDailyBar bar : bars) {
+            byDate.put(bar.getDate(), GoldPriceHistoryDto.DataPoint.builder()
+                    .date(bar.getDate())
+                    .value(bar.getClose().setScale(2, RoundingMode.HALF_UP))
+                    .open(bar.getOpen().setScale(2, RoundingMode.HALF_UP))
+                    .high(bar.getHigh().setScale(2, RoundingMode.HALF_UP))
+                    .low(bar.getLow().setScale(2, RoundingMode.HALF_UP))
+                    .build());
+        }
+
+        if (byDate.size() < MIN_HISTORY_POINTS) {
+            log.info("Insufficient history data: {} points (min: {})", byDate.size(), MIN_HISTORY_POINTS);
         }
 
-        List<GoldPriceHistoryDto.DataPoint> points = history.stream()
-                .map(h -> GoldPriceHistoryDto.DataPoint.builder()
-                        .date(h.getDate())
-                        .value(h.getPrice())
-                        .build())
-                .toList();
+        List<GoldPriceHistoryDto.DataPoint> points = List.copyOf(byDate.values());
 
         GoldPriceHistoryDto response = GoldPriceHistoryDto.builder()
                 .unit(UNIT)
@@ -8,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/news")
@@ -21,21 +22,23 @@ public class GoldNewsController {
         this.goldNewsService = goldNewsService;
     }
 
+    /**
+     * Handled asynchronously; the servlet thread is released while the news providers are called.
+     */
     @GetMapping("/gold")
-    public ResponseEntity<GoldNewsResponse> getGoldNews() {
-        try {
-            GoldNewsResponse response = goldNewsService.getGoldNews();
-            log.info("[GoldNews] Returning {} articles from {}", 
-                    response.getItems().size(), response.getProvider());
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("[GoldNews] Unexpected error: {}", e.getMessage(), e);
-            // Return empty response on failure, do NOT crash
-            return ResponseEntity.ok(GoldNewsResponse.builder()
-                    .items(java.util.Collections.emptyList())
-                    .provider("error")
-                    .fetchedAt(java.time.Instant.now())
-                    .build());
-        }
+    public Mono<ResponseEntity<GoldNewsResponse>> getGoldNews() {
+        return goldNewsService.getGoldNews()
+                .doOnNext(response -> log.info("[GoldNews] Returning {} articles from {}",
+                        response.getItems().size(), response.getProvider()))
+                .onErrorResume(e -> {
+                    log.error("[GoldNews] Unexpected error: {}", e.getMessage(), e);
+                    // Return empty response on failure, do NOT crash
+                    return Mono.just(GoldNewsResponse.builder()
+                            .items(java.util.Collections.emptyList())
+                            .provider("error")
+                            .fetchedAt(java.time.Instant.now())
+                            .build());
+                })
+                .map(ResponseEntity::ok);
     }
 }
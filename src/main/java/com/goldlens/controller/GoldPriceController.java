@@ -1,17 +1,30 @@
 package com.goldlens.controller;
 
-import com.goldlens.dto.GoldPriceSnapshot;
 import com.goldlens.exception.GoldApiUnavailableException;
 import com.goldlens.service.GoldPriceService;
+import com.goldlens.service.GoldPriceStreamService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 
@@ -22,19 +35,88 @@ public class GoldPriceController {
     private static final Logger log = LoggerFactory.getLogger(GoldPriceController.class);
 
     private final GoldPriceService goldPriceService;
+    private final GoldPriceStreamService goldPriceStreamService;
+    private final long streamTimeoutMillis;
 
-    public GoldPriceController(GoldPriceService goldPriceService) {
+    public GoldPriceController(GoldPriceService goldPriceService,
+                               GoldPriceStreamService goldPriceStreamService,
+                               @Value("${goldlens.stream.connection-timeout:PT1H}") Duration streamTimeout) {
         this.goldPriceService = goldPriceService;
+        this.goldPriceStreamService = goldPriceStreamService;
+        this.streamTimeoutMillis = streamTimeout.toMillis();
     }
 
     /**
-     * Returns the latest gold price with caching (5 min TTL).
-     * Response includes: price, currency, unit, asOf, source, isLive, supportsHistory
+     * Returns the latest gold price, served stale-while-revalidate from the price cache.
+     * Response includes: price, currency, unit, asOf, source, live, supportsHistory, tier
+     * Handled asynchronously, so a slow GoldPricez call does not hold a servlet thread.
+     *
+     * The body is the snapshot's pre-encoded JSON, written as-is. Each representation carries a
+     * strong ETag; a matching If-None-Match gets 304 with no body.
      */
     @GetMapping("/latest")
-    public ResponseEntity<GoldPriceSnapshot> getLatestPrice() {
-        GoldPriceSnapshot snapshot = goldPriceService.getLatestPriceWithFallback();
-        return ResponseEntity.ok(snapshot);
+    public Mono<ResponseEntity<byte[]>> getLatestPrice(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return goldPriceService.getLatestPriceWithFallback()
+                .map(price -> {
+                    if (price.matches(ifNoneMatch)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(price.etag())
+                                .cacheControl(CacheControl.noCache())
+                                .build();
+                    }
+                    return ResponseEntity.ok()
+                            .eTag(price.etag())
+                            .cacheControl(CacheControl.noCache())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(price.json());
+                });
+    }
+
+    /**
+     * Server-sent events: a "price" event (id = ETag, data = same JSON as /latest) whenever the
+     * price changes, the current price on connect, and heartbeat comments in between.
+     * Clients reconnect after connection-timeout; EventSource does this automatically.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPrices() {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+
+        // publishOn with prefetch 1 keeps demand at one frame, so a slow client backs up
+        // into its own drop-oldest buffer rather than the shared loop
+        Disposable subscription = goldPriceStreamService.subscribe()
+                .publishOn(Schedulers.boundedElastic(), 1)
+                .subscribe(
+                        event -> send(emitter, event),
+                        error -> emitter.complete(),
+                        emitter::complete);
+
+        emitter.onCompletion(subscription::dispose);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(error -> subscription.dispose());
+        return emitter;
+    }
+
+    private static void send(SseEmitter emitter, ServerSentEvent<String> event) {
+        SseEmitter.SseEventBuilder frame = SseEmitter.event();
+        if (event.id() != null) {
+            frame.id(event.id());
+        }
+        if (event.event() != null) {
+            frame.name(event.event());
+        }
+        if (event.comment() != null) {
+            frame.comment(event.comment());
+        }
+        if (event.data() != null) {
+            frame.data(event.data(), MediaType.APPLICATION_JSON);
+        }
+        try {
+            emitter.send(frame);
+        } catch (IOException e) {
+            // Client went away; the error cancels this subscriber only
+            throw new UncheckedIOException(e);
+        }
     }
 
     @ExceptionHandler(GoldApiUnavailableException.class)
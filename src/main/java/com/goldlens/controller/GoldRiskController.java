@@ -1,21 +1,39 @@
 package com.goldlens.controller;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.goldlens.domain.GoldRiskSnapshot;
 import com.goldlens.dto.GoldRiskDto;
 import com.goldlens.service.GoldRiskAggregationService;
+import com.goldlens.service.RiskBacktestService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/gold-risk")
 public class GoldRiskController {
 
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int MAX_HORIZON = 260;
+
     private final GoldRiskAggregationService goldRiskAggregationService;
+    private final RiskBacktestService riskBacktestService;
 
-    public GoldRiskController(GoldRiskAggregationService goldRiskAggregationService) {
+    public GoldRiskController(GoldRiskAggregationService goldRiskAggregationService,
+                              RiskBacktestService riskBacktestService) {
         this.goldRiskAggregationService = goldRiskAggregationService;
+        this.riskBacktestService = riskBacktestService;
     }
 
     @GetMapping("/latest")
@@ -26,6 +44,91 @@ public class GoldRiskController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Stored risk snapshots in [from, to], oldest first. Defaults to the last year.
+     */
+    @GetMapping("/history")
+    public ResponseEntity<List<GoldRiskDto>> getHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(goldRiskAggregationService.findHistory(start, end).stream()
+                .map(this::toDto)
+                .toList());
+    }
+
+    /**
+     * Point-in-time backtest of the current risk rules over [from, to] (default: the last
+     * 20 years), joined with gold forward returns over `horizon` price days. The per-level
+     * summary comes first, then one point per gold price day, written as it is serialised.
+     */
+    @GetMapping("/backtest")
+    public ResponseEntity<StreamingResponseBody> backtest(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "20") int horizon) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(20);
+        if (start.isAfter(end) || horizon < 1 || horizon > MAX_HORIZON) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        RiskBacktestService.Backtest backtest = riskBacktestService.run(start, end, horizon);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> writeBacktest(backtest, out));
+    }
+
+    private void writeBacktest(RiskBacktestService.Backtest backtest, OutputStream out) throws IOException {
+        // The container owns the response stream; only flush it
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            json.writeStartObject();
+            json.writeStringField("from", backtest.from().toString());
+            json.writeStringField("to", backtest.to().toString());
+            json.writeNumberField("horizon", backtest.horizon());
+            json.writeNumberField("days", backtest.size());
+            json.writeNumberField("computeMillis", backtest.millis());
+
+            json.writeArrayFieldStart("summary");
+            for (RiskBacktestService.LevelSummary level : backtest.summary()) {
+                json.writeStartObject();
+                json.writeStringField("riskLevel", level.level().name());
+                json.writeNumberField("days", level.days());
+                json.writeNumberField("daysWithReturn", level.daysWithReturn());
+                writeNullableNumber(json, "meanForwardReturn", level.meanForwardReturn());
+                writeNullableNumber(json, "positiveShare", level.positiveShare());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+
+            json.writeArrayFieldStart("points");
+            for (int row = 0; row < backtest.size(); row++) {
+                json.writeStartObject();
+                json.writeStringField("date", backtest.date(row).toString());
+                json.writeNumberField("price", backtest.price(row));
+                json.writeStringField("riskLevel", backtest.level(row).name());
+                json.writeStringField("reason", backtest.reason(row));
+                double forward = backtest.forwardReturn(row);
+                writeNullableNumber(json, "forwardReturn", Double.isNaN(forward) ? null : forward);
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    private static void writeNullableNumber(JsonGenerator json, String field, Double value) throws IOException {
+        if (value == null) {
+            json.writeNullField(field);
+        } else {
+            json.writeNumberField(field, value);
+        }
+    }
+
     private GoldRiskDto toDto(GoldRiskSnapshot snapshot) {
         return GoldRiskDto.builder()
                 .riskLevel(snapshot.getRiskLevel())
@@ -1,25 +1,45 @@
 package com.goldlens.controller;
 
+import com.goldlens.backfill.BackgroundJob;
+import com.goldlens.backfill.OnDemandJobManager;
+import com.goldlens.domain.Indicator;
 import com.goldlens.domain.Signal;
 import com.goldlens.dto.SignalDto;
 import com.goldlens.service.IndicatorService;
 import com.goldlens.service.SignalEngineService;
+import com.goldlens.service.SignalReplayService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/api/signals")
 public class SignalController {
 
+    private static final String REPLAY_JOB = "signal-replay";
+
     private final IndicatorService indicatorService;
     private final SignalEngineService signalEngineService;
+    private final SignalReplayService signalReplayService;
+    private final OnDemandJobManager onDemandJobManager;
 
-    public SignalController(IndicatorService indicatorService, SignalEngineService signalEngineService) {
+    public SignalController(IndicatorService indicatorService,
+                            SignalEngineService signalEngineService,
+                            SignalReplayService signalReplayService,
+                            OnDemandJobManager onDemandJobManager) {
         this.indicatorService = indicatorService;
         this.signalEngineService = signalEngineService;
+        this.signalReplayService = signalReplayService;
+        this.onDemandJobManager = onDemandJobManager;
     }
 
     @GetMapping("/{indicatorCode}/latest")
@@ -31,6 +51,57 @@ public class SignalController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Recomputes the full signal history of one indicator (or all) in the background, e.g. after
+     * a rule change. Only one replay runs at a time: while one is active this returns 409 with
+     * its details. Progress is visible at GET /api/signals/replay.
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<Map<String, Object>> replay(@RequestParam(required = false) String indicator) {
+        List<Indicator> indicators;
+        if (indicator != null) {
+            var found = indicatorService.findByCode(indicator);
+            if (found.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            indicators = List.of(found.get());
+        } else {
+            indicators = indicatorService.findAll();
+        }
+
+        String target = indicator != null ? indicator : "all indicators";
+        Optional<BackgroundJob> submitted = onDemandJobManager.trySubmit(REPLAY_JOB, running -> {
+            running.progress(0, (long) indicators.size(), "Replaying signals for " + target);
+            List<SignalReplayService.ReplayResult> results = signalReplayService.replay(indicators);
+            running.progress(results.size(), (long) indicators.size(),
+                    results.stream().mapToLong(SignalReplayService.ReplayResult::signals).sum()
+                            + " signals written for " + target);
+        });
+        if (submitted.isEmpty()) {
+            // Another replay is active; report it rather than silently dropping this request
+            Map<String, Object> active = onDemandJobManager.find(REPLAY_JOB)
+                    .map(SignalController::describeReplay)
+                    .orElse(Map.of("job", REPLAY_JOB));
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(active);
+        }
+        return ResponseEntity.accepted().body(describeReplay(submitted.get()));
+    }
+
+    /**
+     * Status of the current or most recent replay.
+     */
+    @GetMapping("/replay")
+    public ResponseEntity<Map<String, Object>> getReplay() {
+        return onDemandJobManager.find(REPLAY_JOB)
+                .map(SignalController::describeReplay)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private static Map<String, Object> describeReplay(BackgroundJob job) {
+        return Map.of("job", job.getName(), "details", job.describe());
+    }
+
     private SignalDto toDto(Signal signal) {
         return SignalDto.builder()
                 .indicatorCode(signal.getIndicator().getCode())
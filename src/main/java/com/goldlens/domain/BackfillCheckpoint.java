@@ -0,0 +1,68 @@
+package com.goldlens.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a paged FRED backfill for one series. nextOffset is the first page offset not
+ * yet written (pages complete out of order, so only the contiguous prefix counts); an
+ * interrupted run resumes from there with the same range and page size.
+ */
+@Entity
+@Table(name = "backfill_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BackfillCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "series_id", nullable = false, unique = true)
+    private String seriesId;
+
+    @Column(name = "range_start", nullable = false)
+    private LocalDate rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private LocalDate rangeEnd;
+
+    @Column(name = "page_size", nullable = false)
+    private int pageSize;
+
+    @Column(name = "total_count")
+    private Integer totalCount;
+
+    @Column(name = "next_offset", nullable = false)
+    private int nextOffset;
+
+    @Column(name = "rows_written", nullable = false)
+    private long rowsWritten;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BackfillStatus status;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
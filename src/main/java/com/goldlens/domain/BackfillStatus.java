@@ -0,0 +1,7 @@
+package com.goldlens.domain;
+
+public enum BackfillStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
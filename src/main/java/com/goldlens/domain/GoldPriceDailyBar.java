@@ -0,0 +1,99 @@
+package com.goldlens.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Daily OHLC rollup of gold_price_ticks, maintained incrementally as ticks are flushed.
+ * openAt/closeAt keep the bar correct when ticks arrive out of order.
+ */
+@Entity
+@Table(name = "gold_price_daily_bars")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GoldPriceDailyBar {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private LocalDate date;
+
+    @Column(nullable = false, precision = 12, scale = 4)
+    private BigDecimal open;
+
+    @Column(nullable = false, precision = 12, scale = 4)
+    private BigDecimal high;
+
+    @Column(nullable = false, precision = 12, scale = 4)
+    private BigDecimal low;
+
+    @Column(nullable = false, precision = 12, scale = 4)
+    private BigDecimal close;
+
+    @Column(name = "open_at", nullable = false)
+    private LocalDateTime openAt;
+
+    @Column(name = "close_at", nullable = false)
+    private LocalDateTime closeAt;
+
+    @Column(name = "tick_count", nullable = false)
+    private int tickCount;
+
+    private String source;
+
+    /**
+     * Folds one tick into the bar.
+     */
+    public void apply(GoldPriceTick tick) {
+        BigDecimal price = tick.getPrice();
+        LocalDateTime at = tick.getObservedAt();
+        if (at.isBefore(openAt)) {
+            open = price;
+            openAt = at;
+        }
+        if (!at.isBefore(closeAt)) {
+            close = price;
+            closeAt = at;
+            source = tick.getSource();
+        }
+        if (price.compareTo(high) > 0) {
+            high = price;
+        }
+        if (price.compareTo(low) < 0) {
+            low = price;
+        }
+        tickCount++;
+    }
+
+    public static GoldPriceDailyBar open(GoldPriceTick tick) {
+        return GoldPriceDailyBar.builder()
+                .date(tick.getObservedAt().toLocalDate())
+                .open(tick.getPrice())
+                .high(tick.getPrice())
+                .low(tick.getPrice())
+                .close(tick.getPrice())
+                .openAt(tick.getObservedAt())
+                .closeAt(tick.getObservedAt())
+                .tickCount(1)
+                .source(tick.getSource())
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.goldlens.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only intraday gold price observation, one row per (observedAt, source).
+ * Uses a pooled sequence rather than IDENTITY so Hibernate can batch the inserts.
+ */
+@Entity
+@Table(
+    name = "gold_price_ticks",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"observed_at", "source"}),
+    indexes = @Index(name = "idx_gold_price_ticks_observed_at", columnList = "observed_at")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GoldPriceTick {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "gold_price_ticks_seq")
+    @SequenceGenerator(name = "gold_price_ticks_seq", sequenceName = "gold_price_ticks_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "observed_at", nullable = false)
+    private LocalDateTime observedAt;
+
+    @Column(nullable = false, precision = 12, scale = 4)
+    private BigDecimal price;
+
+    @Column(nullable = false)
+    private String source;
+}
@@ -0,0 +1,7 @@
+package com.goldlens.domain;
+
+public enum JobRunStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,52 @@
+package com.goldlens.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Per-series sync watermark for incremental FRED ingestion: the newest observation date
+ * stored so far. Each run re-reads from the watermark minus the revision window.
+ */
+@Entity
+@Table(name = "series_sync_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeriesSyncState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "series_id", nullable = false, unique = true)
+    private String seriesId;
+
+    @Column(name = "indicator_code", nullable = false)
+    private String indicatorCode;
+
+    @Column(name = "last_observation_date")
+    private LocalDate lastObservationDate;
+
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+
+    @Column(name = "last_inserted")
+    private int lastInserted;
+
+    @Column(name = "last_revised")
+    private int lastRevised;
+}
@@ -0,0 +1,87 @@
+package com.goldlens.dto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+
+/**
+ * A gold price snapshot together with its JSON response body and strong ETag, encoded once
+ * when the price (or its tier) changes and then served as-is by /api/gold-price/latest.
+ *
+ * The JSON matches what Jackson produced for GoldPriceSnapshot (field names, ISO asOf).
+ * The json array is shared and must not be modified.
+ */
+public record EncodedGoldPrice(GoldPriceSnapshot snapshot, byte[] json, String etag) {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    public static EncodedGoldPrice of(GoldPriceSnapshot snapshot) {
+        byte[] json = encode(snapshot);
+        return new EncodedGoldPrice(snapshot, json, etagOf(json));
+    }
+
+    /**
+     * True if an If-None-Match header value names this representation (or is "*").
+     * Weak validators are accepted, as RFC 9110 requires weak comparison for If-None-Match.
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] encode(GoldPriceSnapshot snapshot) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(out)) {
+            json.writeStartObject();
+            if (snapshot.getPrice() != null) {
+                json.writeNumberField("price", snapshot.getPrice());
+            } else {
+                json.writeNullField("price");
+            }
+            json.writeStringField("currency", snapshot.getCurrency());
+            json.writeStringField("unit", snapshot.getUnit());
+            json.writeStringField("asOf", snapshot.getAsOf() != null
+                    ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(snapshot.getAsOf())
+                    : null);
+            json.writeStringField("source", snapshot.getSource());
+            json.writeBooleanField("live", snapshot.isLive());
+            json.writeBooleanField("supportsHistory", snapshot.isSupportsHistory());
+            json.writeStringField("tier", snapshot.getTier() != null ? snapshot.getTier().name() : null);
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode gold price snapshot", e);
+        }
+        return out.toByteArray();
+    }
+
+    // Content hash, so every instance hands out the same tag for the same body
+    private static String etagOf(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
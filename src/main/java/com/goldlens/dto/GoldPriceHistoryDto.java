@@ -37,5 +37,10 @@ public class GoldPriceHistoryDto {
     public static class DataPoint {
         private LocalDate date;
         private BigDecimal value;
+
+        // Intraday range, only present for days rolled up from ticks
+        private BigDecimal open;
+        private BigDecimal high;
+        private BigDecimal low;
     }
 }
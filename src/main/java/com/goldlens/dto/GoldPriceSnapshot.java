@@ -1,30 +1,31 @@
 package com.goldlens.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
+import lombok.Value;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
+/**
+ * Immutable: instances are shared between the price cache, the single-flight callers and
+ * the pre-encoded response bytes, so variants are derived with toBuilder().
+ */
+@Value
+@Builder(toBuilder = true)
 public class GoldPriceSnapshot {
 
-    private BigDecimal price;
-    private String currency;
-    private String unit;
-    private LocalDateTime asOf;
-    private String source;
-    
+    BigDecimal price;
+    String currency;
+    String unit;
+    LocalDateTime asOf;
+    String source;
+
+    @Builder.Default
+    boolean isLive = true;
+
     @Builder.Default
-    private boolean isLive = true;
-    
+    boolean supportsHistory = false;
+
     @Builder.Default
-    private boolean supportsHistory = false;
+    PriceTier tier = PriceTier.LIVE;
 }
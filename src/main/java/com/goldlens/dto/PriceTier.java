@@ -0,0 +1,10 @@
+package com.goldlens.dto;
+
+/**
+ * Where a served gold price came from, fastest-to-stalest.
+ */
+public enum PriceTier {
+    LIVE,
+    CACHE,
+    DATABASE
+}
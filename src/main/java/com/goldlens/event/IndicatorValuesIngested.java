@@ -0,0 +1,21 @@
+package com.goldlens.event;
+
+import com.goldlens.domain.Indicator;
+
+import java.time.LocalDate;
+
+/**
+ * Published after an ingestion run wrote an indicator's values. runDate is the day the run
+ * belongs to; newestChangedDate is the newest inserted or revised observation, or null when
+ * upstream had nothing new (the indicator is still settled for the day).
+ */
+public record IndicatorValuesIngested(Indicator indicator,
+                                      LocalDate runDate,
+                                      LocalDate newestChangedDate,
+                                      int inserted,
+                                      int revised) {
+
+    public boolean hasChanges() {
+        return newestChangedDate != null;
+    }
+}
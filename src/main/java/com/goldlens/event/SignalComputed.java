@@ -0,0 +1,10 @@
+package com.goldlens.event;
+
+import java.time.LocalDate;
+
+/**
+ * Published once an indicator's signal is up to date for runDate, whether a new signal was
+ * stored or the existing one still stands.
+ */
+public record SignalComputed(String indicatorCode, LocalDate runDate) {
+}
@@ -0,0 +1,5 @@
+/**
+ * Application events wiring ingestion, signal and risk stages: values ingested for an
+ * indicator trigger its signal, and a day's risk snapshot follows once all inputs are in.
+ */
+package com.goldlens.event;
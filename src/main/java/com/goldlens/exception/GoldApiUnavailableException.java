@@ -22,6 +22,23 @@ public class GoldApiUnavailableException extends RuntimeException {
         this.requestId = requestId;
     }
 
+    private GoldApiUnavailableException(String message, int httpStatus, String errorType, String requestId,
+                                        boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.httpStatus = httpStatus;
+        this.errorType = errorType;
+        this.requestId = requestId;
+    }
+
+    /**
+     * Fast-fail rejection while a provider's circuit is open. Built without a stack trace
+     * since it is an expected, frequent outcome rather than a fault.
+     */
+    public static GoldApiUnavailableException circuitOpen(String provider, String requestId) {
+        return new GoldApiUnavailableException(provider + " circuit open, not calling provider",
+                503, "CIRCUIT_OPEN", requestId, false);
+    }
+
     public int getHttpStatus() {
         return httpStatus;
     }
@@ -38,6 +55,14 @@ public class GoldApiUnavailableException extends RuntimeException {
         return httpStatus == 429 || "RATE_LIMITED".equals(errorType);
     }
 
+    public boolean isBudgetExhausted() {
+        return "BUDGET_EXHAUSTED".equals(errorType);
+    }
+
+    public boolean isCircuitOpen() {
+        return "CIRCUIT_OPEN".equals(errorType);
+    }
+
     public boolean isServerError() {
         return httpStatus >= 500;
     }
@@ -47,7 +72,7 @@ public class GoldApiUnavailableException extends RuntimeException {
     }
 
     public HttpStatus getRecommendedResponseStatus() {
-        if (isRateLimited()) {
+        if (isRateLimited() || isCircuitOpen()) {
             return HttpStatus.SERVICE_UNAVAILABLE; // 503
         }
         return HttpStatus.BAD_GATEWAY; // 502 for 403, 5xx errors
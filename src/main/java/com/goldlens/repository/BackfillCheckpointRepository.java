@@ -0,0 +1,13 @@
+package com.goldlens.repository;
+
+import com.goldlens.domain.BackfillCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BackfillCheckpointRepository extends JpaRepository<BackfillCheckpoint, Long> {
+
+    Optional<BackfillCheckpoint> findBySeriesId(String seriesId);
+}
@@ -0,0 +1,17 @@
+package com.goldlens.repository;
+
+import com.goldlens.domain.GoldPriceDailyBar;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface GoldPriceDailyBarRepository extends JpaRepository<GoldPriceDailyBar, Long> {
+
+    List<GoldPriceDailyBar> findByDateIn(Collection<LocalDate> dates);
+
+    List<GoldPriceDailyBar> findByDateGreaterThanEqualOrderByDateAsc(LocalDate sinceDate);
+}
@@ -17,6 +17,8 @@ public interface GoldPriceHistoryRepository extends JpaRepository<GoldPriceHisto
 
     Optional<GoldPriceHistory> findTopByOrderByDateDesc();
 
+    Optional<GoldPriceHistory> findByDate(LocalDate date);
+
     @Query("SELECT g FROM GoldPriceHistory g WHERE g.date >= :sinceDate ORDER BY g.date ASC")
     List<GoldPriceHistory> findByDateGreaterThanEqualOrderByDateAsc(@Param("sinceDate") LocalDate sinceDate);
 
@@ -0,0 +1,19 @@
+package com.goldlens.repository;
+
+import com.goldlens.domain.GoldPriceTick;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface GoldPriceTickRepository extends JpaRepository<GoldPriceTick, Long> {
+
+    @Query("SELECT t.observedAt FROM GoldPriceTick t WHERE t.source = :source AND t.observedAt BETWEEN :from AND :to")
+    List<LocalDateTime> findObservedAtBySourceBetween(@Param("source") String source,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to);
+}
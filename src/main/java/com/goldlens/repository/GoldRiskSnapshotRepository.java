@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +14,6 @@ public interface GoldRiskSnapshotRepository extends JpaRepository<GoldRiskSnapsh
     Optional<GoldRiskSnapshot> findTopByOrderByAsOfDateDesc();
 
     boolean existsByAsOfDate(LocalDate asOfDate);
+
+    List<GoldRiskSnapshot> findByAsOfDateBetweenOrderByAsOfDateAsc(LocalDate from, LocalDate to);
 }
@@ -4,10 +4,14 @@ import com.goldlens.domain.Indicator;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface IndicatorRepository extends JpaRepository<Indicator, Long> {
 
     Optional<Indicator> findByCode(String code);
+
+    List<Indicator> findByCodeIn(Collection<String> codes);
 }
@@ -0,0 +1,13 @@
+package com.goldlens.repository;
+
+import com.goldlens.domain.JobRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    List<JobRun> findTop50ByOrderByStartedAtDesc();
+}
@@ -0,0 +1,14 @@
+package com.goldlens.repository;
+
+import com.goldlens.domain.SeriesSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SeriesSyncStateRepository extends JpaRepository<SeriesSyncState, Long> {
+
+    List<SeriesSyncState> findBySeriesIdIn(Collection<String> seriesIds);
+}
@@ -3,9 +3,13 @@ package com.goldlens.repository;
 import com.goldlens.domain.Indicator;
 import com.goldlens.domain.Signal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,5 +17,13 @@ public interface SignalRepository extends JpaRepository<Signal, Long> {
 
     Optional<Signal> findTopByIndicatorOrderByAsOfDateDesc(Indicator indicator);
 
-    boolean existsByIndicatorAndAsOfDate(Indicator indicator, LocalDate asOfDate);
+    Optional<Signal> findByIndicatorAndAsOfDate(Indicator indicator, LocalDate asOfDate);
+
+    // Latest signal of each of the given indicators, with the indicator fetched, in one query
+    @Query("""
+            SELECT s FROM Signal s JOIN FETCH s.indicator i
+            WHERE i.code IN :codes
+              AND s.asOfDate = (SELECT MAX(s2.asOfDate) FROM Signal s2 WHERE s2.indicator = i)
+            """)
+    List<Signal> findLatestByIndicatorCodes(@Param("codes") Collection<String> codes);
 }
@@ -0,0 +1,215 @@
+package com.goldlens.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-provider circuit breaker.
+ *
+ * CLOSED: calls pass; after failureThreshold consecutive failures the breaker opens.
+ * OPEN: calls are rejected without touching the network until the open period ends.
+ * The period doubles with each consecutive re-open (capped at maxOpenDuration) and is
+ * jittered so several instances do not probe a recovering provider at the same moment.
+ * HALF_OPEN: exactly one probe call is let through; success closes, failure re-opens.
+ * Late results of calls started before the breaker opened do not close it.
+ *
+ * The rejection path is a volatile read and a clock check, so a dead provider costs
+ * nanoseconds per call instead of a connect or response timeout.
+ */
+public class CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long baseOpenNanos;
+    private final long maxOpenNanos;
+    private final double jitter;
+    private final LongSupplier clock;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openUntilNanos;
+    private final AtomicBoolean probeInFlight = new AtomicBoolean(false);
+
+    // Guarded by this
+    private int consecutiveFailures;
+    private int consecutiveOpens;
+
+    private final Counter rejected;
+    private final Counter failures;
+    private final Counter opened;
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration, Duration maxOpenDuration,
+                   double jitter, MeterRegistry meterRegistry) {
+        this(name, failureThreshold, openDuration, maxOpenDuration, jitter, meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * @param clock monotonic nanosecond clock; System::nanoTime outside tests
+     */
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration, Duration maxOpenDuration,
+                   double jitter, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.name = name;
+        this.clock = clock;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.baseOpenNanos = openDuration.toNanos();
+        this.maxOpenNanos = Math.max(openDuration.toNanos(), maxOpenDuration.toNanos());
+        this.jitter = Math.min(Math.max(jitter, 0.0), 1.0);
+
+        meterRegistry.gauge("goldlens.circuit_breaker.state",
+                Tags.of("name", name), this, b -> b.state.ordinal());
+        this.rejected = callCounter(meterRegistry, name, "rejected");
+        this.failures = callCounter(meterRegistry, name, "failure");
+        this.opened = Counter.builder("goldlens.circuit_breaker.opened")
+                .description("Times the circuit breaker opened")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns true if the caller may call the provider. Every granted permission must be
+     * followed by onSuccess, onFailure or releasePermission.
+     */
+    public boolean tryAcquirePermission() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (clock.getAsLong() - openUntilNanos < 0) {
+                rejected.increment();
+                return false;
+            }
+            toHalfOpen();
+        }
+        if (probeInFlight.compareAndSet(false, true)) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Hands back a permission that did not result in a provider call (e.g. local budget denied).
+     */
+    public void releasePermission() {
+        probeInFlight.set(false);
+    }
+
+    /**
+     * Records a successful call. While OPEN, or HALF_OPEN without a probe out, the success
+     * belongs to a call started before the breaker opened and does not close it; only the
+     * half-open probe can.
+     */
+    public void onSuccess() {
+        if (state == State.CLOSED && consecutiveFailuresUnsafe() == 0) {
+            return;
+        }
+        synchronized (this) {
+            switch (state) {
+                case CLOSED -> consecutiveFailures = 0;
+                case OPEN -> log.debug("[circuit={}] Ignoring late success while OPEN", name);
+                case HALF_OPEN -> {
+                    if (!probeInFlight.get()) {
+                        log.debug("[circuit={}] Ignoring late success while HALF_OPEN without a probe", name);
+                        return;
+                    }
+                    consecutiveFailures = 0;
+                    consecutiveOpens = 0;
+                    state = State.CLOSED;
+                    probeInFlight.set(false);
+                    log.info("[circuit={}] Provider recovered — circuit CLOSED", name);
+                }
+            }
+        }
+    }
+
+    public void onFailure() {
+        failures.increment();
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                open("probe failed");
+                return;
+            }
+            if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+                open(consecutiveFailures + " consecutive failures");
+            }
+        }
+    }
+
+    public State getState() {
+        State current = state;
+        if (current == State.OPEN && clock.getAsLong() - openUntilNanos >= 0) {
+            return State.HALF_OPEN;
+        }
+        return current;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized Map<String, Object> describe() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("state", getState().name());
+        details.put("consecutiveFailures", consecutiveFailures);
+        details.put("consecutiveOpens", consecutiveOpens);
+        if (state == State.OPEN) {
+            details.put("retryInMillis", Math.max(0, Duration.ofNanos(openUntilNanos - clock.getAsLong()).toMillis()));
+        }
+        return details;
+    }
+
+    private synchronized void toHalfOpen() {
+        if (state == State.OPEN && clock.getAsLong() - openUntilNanos >= 0) {
+            state = State.HALF_OPEN;
+            probeInFlight.set(false);
+            log.info("[circuit={}] Open period elapsed — circuit HALF_OPEN, allowing one probe", name);
+        }
+    }
+
+    // Called with the lock held
+    private void open(String reason) {
+        consecutiveOpens++;
+        long backoff = baseOpenNanos << Math.min(consecutiveOpens - 1, 20);
+        if (backoff <= 0 || backoff > maxOpenNanos) {
+            backoff = maxOpenNanos;
+        }
+        long jittered = (long) (backoff * (1.0 - jitter * ThreadLocalRandom.current().nextDouble()));
+
+        openUntilNanos = clock.getAsLong() + jittered;
+        consecutiveFailures = 0;
+        probeInFlight.set(false);
+        state = State.OPEN;
+        opened.increment();
+        log.warn("[circuit={}] Circuit OPEN for {} ms ({}; open #{})",
+                name, Duration.ofNanos(jittered).toMillis(), reason, consecutiveOpens);
+    }
+
+    private int consecutiveFailuresUnsafe() {
+        // Racy read is fine: a stale non-zero value only means taking the lock once more
+        return consecutiveFailures;
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder("goldlens.circuit_breaker.calls")
+                .description("Calls through the circuit breaker by outcome")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
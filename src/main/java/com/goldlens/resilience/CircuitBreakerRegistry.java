@@ -0,0 +1,52 @@
+package com.goldlens.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one circuit breaker per upstream provider, created on first use with the shared settings.
+ */
+@Component
+public class CircuitBreakerRegistry {
+
+    public static final String GOLDPRICEZ = "goldpricez";
+    public static final String FRED = "fred";
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Duration maxOpenDuration;
+    private final double jitter;
+
+    public CircuitBreakerRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${goldlens.resilience.circuit-breaker.failure-threshold:3}") int failureThreshold,
+            @Value("${goldlens.resilience.circuit-breaker.open-duration:PT30S}") Duration openDuration,
+            @Value("${goldlens.resilience.circuit-breaker.max-open-duration:PT15M}") Duration maxOpenDuration,
+            @Value("${goldlens.resilience.circuit-breaker.jitter:0.2}") double jitter) {
+        this.meterRegistry = meterRegistry;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.maxOpenDuration = maxOpenDuration;
+        this.jitter = jitter;
+    }
+
+    public CircuitBreaker get(String name) {
+        return breakers.computeIfAbsent(name, n ->
+                new CircuitBreaker(n, failureThreshold, openDuration, maxOpenDuration, jitter, meterRegistry));
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> states = new TreeMap<>();
+        breakers.forEach((name, breaker) -> states.put(name, breaker.describe()));
+        return states;
+    }
+}
@@ -1,10 +1,13 @@
 package com.goldlens.scheduler;
 
+import com.goldlens.resilience.CircuitBreaker;
+import com.goldlens.resilience.CircuitBreakerRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.math.BigDecimal;
@@ -13,6 +16,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+/**
+ * FRED API client. Calls go through the "fred" circuit breaker: while it is open every method
+ * returns empty immediately and callers keep the values already persisted.
+ */
 @Component
 public class FredClient {
 
@@ -20,10 +27,13 @@ public class FredClient {
 
     private final WebClient webClient;
     private final String apiKey;
+    private final CircuitBreaker circuitBreaker;
 
-    public FredClient(WebClient fredWebClient, @Qualifier("fredApiKey") String fredApiKey) {
+    public FredClient(WebClient fredWebClient, @Qualifier("fredApiKey") String fredApiKey,
+                      CircuitBreakerRegistry circuitBreakerRegistry) {
         this.webClient = fredWebClient;
         this.apiKey = fredApiKey;
+        this.circuitBreaker = circuitBreakerRegistry.get(CircuitBreakerRegistry.FRED);
     }
 
     /**
@@ -32,6 +42,9 @@ public class FredClient {
      */
     @SuppressWarnings("unchecked")
     public Optional<FredObservation> fetchLatestObservation(String seriesId) {
+        if (!permitted("latest observation for " + seriesId)) {
+            return Optional.empty();
+        }
         try {
             Map<String, Object> response = webClient.get()
                     .uri(uriBuilder -> uriBuilder
@@ -45,6 +58,7 @@ public class FredClient {
                     .retrieve()
                     .bodyToMono(Map.class)
                     .block();
+            circuitBreaker.onSuccess();
 
             if (response == null || !response.containsKey("observations")) {
                 log.warn("FRED API returned no observations for series: {}", seriesId);
@@ -73,10 +87,16 @@ public class FredClient {
             return Optional.of(new FredObservation(date, value));
 
         } catch (WebClientResponseException e) {
+            recordResponseError(e);
             log.error("FRED API request failed for series {}: {} - {}", seriesId, e.getStatusCode(), e.getStatusText());
             log.error("FRED API error response body: {}", e.getResponseBodyAsString());
             return Optional.empty();
+        } catch (WebClientRequestException e) {
+            circuitBreaker.onFailure();
+            log.error("FRED API unreachable for series {}: {}", seriesId, e.getMessage());
+            return Optional.empty();
         } catch (Exception e) {
+            circuitBreaker.releasePermission();
             log.error("Failed to fetch FRED data for series {}: {}", seriesId, e.getMessage(), e);
             return Optional.empty();
         }
@@ -84,10 +104,14 @@ public class FredClient {
 
     /**
      * Fetches historical observations for a given FRED series.
-     * Returns a list of valid observations, skipping missing values.
+     * Returns the valid observations, skipping missing values, or empty if the call failed or
+     * the circuit is open, so callers can tell an outage apart from a series with no new data.
      */
     @SuppressWarnings("unchecked")
-    public List<FredObservation> fetchHistoricalObservations(String seriesId, LocalDate startDate, int limit) {
+    public Optional<List<FredObservation>> fetchHistoricalObservations(String seriesId, LocalDate startDate, int limit) {
+        if (!permitted("historical data for " + seriesId)) {
+            return Optional.empty();
+        }
         log.info("Fetching FRED historical data: series={}, start={}, limit={}, api_key={}***",
                 seriesId, startDate, limit, apiKey != null ? apiKey.substring(0, Math.min(4, apiKey.length())) : "NULL");
 
@@ -105,16 +129,17 @@ public class FredClient {
                     .retrieve()
                     .bodyToMono(Map.class)
                     .block();
+            circuitBreaker.onSuccess();
 
             if (response == null || !response.containsKey("observations")) {
                 log.warn("FRED API returned no observations for series: {}", seriesId);
-                return List.of();
+                return Optional.of(List.of());
             }
 
             List<Map<String, String>> observations = (List<Map<String, String>>) response.get("observations");
             if (observations == null || observations.isEmpty()) {
                 log.warn("FRED API returned empty observations array for series: {}", seriesId);
-                return List.of();
+                return Optional.of(List.of());
             }
 
             int totalFetched = observations.size();
@@ -129,17 +154,105 @@ public class FredClient {
             log.info("FRED series {}: fetched {} observations, {} valid, {} skipped (missing values)",
                     seriesId, totalFetched, validObservations.size(), skippedCount);
 
-            return validObservations;
+            return Optional.of(validObservations);
 
         } catch (WebClientResponseException e) {
+            recordResponseError(e);
             log.error("FRED API request failed for series {}: {} - {}", seriesId, e.getStatusCode(), e.getStatusText());
             log.error("FRED API error response body: {}", e.getResponseBodyAsString());
             log.error("Request URL: /series/observations?series_id={}&observation_start={}&sort_order=asc&limit={}",
                     seriesId, startDate, limit);
-            return List.of();
+            return Optional.empty();
+        } catch (WebClientRequestException e) {
+            circuitBreaker.onFailure();
+            log.error("FRED API unreachable for series {}: {}", seriesId, e.getMessage());
+            return Optional.empty();
         } catch (Exception e) {
+            circuitBreaker.releasePermission();
             log.error("Failed to fetch FRED historical data for series {}: {}", seriesId, e.getMessage(), e);
-            return List.of();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Fetches one page of observations in [startDate, endDate], ascending, for paged backfills.
+     * The page carries FRED's total match count so callers can plan the remaining offsets.
+     * Returns empty if the call fails or the circuit is open, so a failed page can be retried.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<ObservationPage> fetchObservationPage(String seriesId, LocalDate startDate, LocalDate endDate,
+                                                          int limit, int offset) {
+        if (!permitted("observation page " + offset + " for " + seriesId)) {
+            return Optional.empty();
+        }
+        try {
+            Map<String, Object> response = webClient.get()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/series/observations")
+                            .queryParam("series_id", seriesId)
+                            .queryParam("api_key", apiKey)
+                            .queryParam("file_type", "json")
+                            .queryParam("observation_start", startDate.toString())
+                            .queryParam("observation_end", endDate.toString())
+                            .queryParam("sort_order", "asc")
+                            .queryParam("limit", limit)
+                            .queryParam("offset", offset)
+                            .build())
+                    .retrieve()
+                    .bodyToMono(Map.class)
+                    .block();
+            circuitBreaker.onSuccess();
+
+            if (response == null) {
+                log.warn("FRED API returned no body for series {} page offset {}", seriesId, offset);
+                return Optional.empty();
+            }
+
+            List<Map<String, String>> observations = (List<Map<String, String>>) response.get("observations");
+            if (observations == null) {
+                observations = List.of();
+            }
+            int count = response.get("count") instanceof Number n ? n.intValue() : observations.size();
+
+            List<FredObservation> valid = observations.stream()
+                    .filter(this::isValidObservation)
+                    .map(obs -> new FredObservation(
+                            LocalDate.parse(obs.get("date")),
+                            new BigDecimal(obs.get("value"))))
+                    .toList();
+
+            return Optional.of(new ObservationPage(valid, observations.size(), count));
+
+        } catch (WebClientResponseException e) {
+            recordResponseError(e);
+            log.error("FRED API page request failed for series {} offset {}: {} - {}",
+                    seriesId, offset, e.getStatusCode(), e.getStatusText());
+            return Optional.empty();
+        } catch (WebClientRequestException e) {
+            circuitBreaker.onFailure();
+            log.error("FRED API unreachable for series {} offset {}: {}", seriesId, offset, e.getMessage());
+            return Optional.empty();
+        } catch (Exception e) {
+            circuitBreaker.releasePermission();
+            log.error("Failed to fetch FRED page for series {} offset {}: {}", seriesId, offset, e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
+
+    private boolean permitted(String operation) {
+        if (circuitBreaker.tryAcquirePermission()) {
+            return true;
+        }
+        log.debug("FRED circuit open — skipping {}", operation);
+        return false;
+    }
+
+    // 4xx means FRED answered (bad series id, bad key): not a provider outage
+    private void recordResponseError(WebClientResponseException e) {
+        if (e.getStatusCode().is5xxServerError()) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
         }
     }
 
@@ -162,6 +275,9 @@ public class FredClient {
      */
     @SuppressWarnings("unchecked")
     public List<FredSeriesInfo> searchSeries(String searchText, int limit) {
+        if (!permitted("series search")) {
+            return List.of();
+        }
         log.info("Searching FRED for series: searchText='{}', limit={}", searchText, limit);
 
         try {
@@ -176,6 +292,7 @@ public class FredClient {
                     .retrieve()
                     .bodyToMono(Map.class)
                     .block();
+            circuitBreaker.onSuccess();
 
             if (response == null || !response.containsKey("seriess")) {
                 log.warn("FRED search returned no results for: {}", searchText);
@@ -200,10 +317,16 @@ public class FredClient {
             return results;
 
         } catch (WebClientResponseException e) {
+            recordResponseError(e);
             log.error("FRED search API failed: {} - {}", e.getStatusCode(), e.getStatusText());
             log.error("FRED search error response: {}", e.getResponseBodyAsString());
             return List.of();
+        } catch (WebClientRequestException e) {
+            circuitBreaker.onFailure();
+            log.error("FRED search API unreachable: {}", e.getMessage());
+            return List.of();
         } catch (Exception e) {
+            circuitBreaker.releasePermission();
             log.error("Failed to search FRED: {}", e.getMessage(), e);
             return List.of();
         }
@@ -242,7 +365,7 @@ public class FredClient {
             log.info("Trying series: {} - {}", series.id(), series.title());
 
             List<FredObservation> testObs = fetchHistoricalObservations(
-                    series.id(), LocalDate.now().minusDays(30), 5);
+                    series.id(), LocalDate.now().minusDays(30), 5).orElse(List.of());
 
             if (!testObs.isEmpty()) {
                 log.info("Found valid gold price series: {} - {} ({} test observations)",
@@ -259,5 +382,11 @@ public class FredClient {
 
     public record FredObservation(LocalDate date, BigDecimal value) {}
 
+    /**
+     * One page of a paged observations request: valid observations, the raw row count of the
+     * page (missing values included) and FRED's total count for the whole query.
+     */
+    public record ObservationPage(List<FredObservation> observations, int rawSize, int totalCount) {}
+
     public record FredSeriesInfo(String id, String title, String units, String frequency) {}
 }
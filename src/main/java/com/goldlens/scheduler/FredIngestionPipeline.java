@@ -0,0 +1,290 @@
+package com.goldlens.scheduler;
+
+import com.goldlens.config.FredSeriesProperties;
+import com.goldlens.config.FredSeriesProperties.Series;
+import com.goldlens.domain.Indicator;
+import com.goldlens.domain.IndicatorValue;
+import com.goldlens.domain.SeriesSyncState;
+import com.goldlens.event.IndicatorValuesIngested;
+import com.goldlens.service.IndicatorService;
+import com.goldlens.service.IndicatorValueService;
+import com.goldlens.service.SeriesSyncStateService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Ingests every FRED-backed indicator from the goldlens.fred.series registry in one run:
+ * all series are fetched concurrently and upserted in bulk, then an IndicatorValuesIngested
+ * event per series drives signal and risk computation. A run takes about as long as the
+ * slowest single FRED call.
+ *
+ * Sync is incremental: each series has a watermark (newest stored observation date) in
+ * series_sync_state and is fetched from the watermark minus the revision window, so missed
+ * runs, FRED revisions and late backfills heal on the next run without a full re-fetch.
+ */
+@Component
+public class FredIngestionPipeline implements ScheduledJob {
+
+    private static final Logger log = LoggerFactory.getLogger(FredIngestionPipeline.class);
+
+    private static final String SOURCE = "FRED";
+
+    private final FredClient fredClient;
+    private final FredSeriesProperties properties;
+    private final IndicatorService indicatorService;
+    private final IndicatorValueService indicatorValueService;
+    private final SeriesSyncStateService seriesSyncStateService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String cron;
+
+    public FredIngestionPipeline(FredClient fredClient,
+                                 FredSeriesProperties properties,
+                                 IndicatorService indicatorService,
+                                 IndicatorValueService indicatorValueService,
+                                 SeriesSyncStateService seriesSyncStateService,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${goldlens.fred.ingest-cron:0 0 6 * * *}") String cron) {
+        this.fredClient = fredClient;
+        this.properties = properties;
+        this.indicatorService = indicatorService;
+        this.indicatorValueService = indicatorValueService;
+        this.seriesSyncStateService = seriesSyncStateService;
+        this.eventPublisher = eventPublisher;
+        this.cron = cron;
+    }
+
+    @Override
+    public String name() {
+        return "fred-ingest";
+    }
+
+    // Daily at 06:00 UTC - FRED updates macro data once per day, no need for more frequent polling
+    @Override
+    public String cron() {
+        return cron;
+    }
+
+    @Override
+    public long run(LocalDateTime scheduledFor) {
+        return ingestAll();
+    }
+
+    /**
+     * Runs one sync of all configured series and returns the number of rows inserted or revised.
+     * Series that were fetched are stored and published even when others failed; the run then
+     * throws naming the failed series, so the slot is recorded FAILED and claimed again.
+     */
+    public long ingestAll() {
+        List<Series> series = properties.getSeries().stream()
+                .filter(Series::isValid)
+                .toList();
+        if (series.isEmpty()) {
+            log.warn("[fred-ingest] No FRED series configured — skipping");
+            return 0;
+        }
+
+        long started = System.nanoTime();
+        log.info("[fred-ingest] Starting incremental sync of {} FRED series", series.size());
+
+        Map<String, Indicator> indicators = resolveIndicators(series);
+        Map<String, SeriesSyncState> states = seriesSyncStateService.findBySeriesIds(
+                series.stream().map(Series::getSeriesId).toList());
+
+        Map<String, LocalDate> starts = new LinkedHashMap<>();
+        for (Series s : series) {
+            starts.put(s.getSeriesId(), startDate(states.get(s.getSeriesId()), indicators.get(s.getIndicatorCode())));
+        }
+
+        Map<String, List<FredClient.FredObservation>> fetched = fetchAll(series, starts);
+        List<String> failed = series.stream()
+                .map(Series::getSeriesId)
+                .filter(id -> !fetched.containsKey(id))
+                .toList();
+
+        List<IndicatorValue> candidates = new ArrayList<>();
+        for (Series s : series) {
+            Indicator indicator = indicators.get(s.getIndicatorCode());
+            for (FredClient.FredObservation observation : fetched.getOrDefault(s.getSeriesId(), List.of())) {
+                candidates.add(IndicatorValue.builder()
+                        .indicator(indicator)
+                        .value(observation.value())
+                        .date(observation.date())
+                        .source(SOURCE)
+                        .build());
+            }
+        }
+
+        IndicatorValueService.UpsertResult result =
+                indicatorValueService.upsertAll(candidates, IndicatorValueService.OnConflict.UPDATE);
+
+        Map<Long, SyncDelta> deltas = new LinkedHashMap<>();
+        for (IndicatorValueService.Change change : result.changes()) {
+            deltas.computeIfAbsent(change.indicatorId(), id -> new SyncDelta()).add(change);
+        }
+
+        seriesSyncStateService.saveAll(advanceWatermarks(series, indicators, states, fetched, deltas));
+
+        // Signals and risk follow from these events (SignalPipelineListener, GoldRiskPipelineListener)
+        publishIngested(series, indicators, fetched, deltas);
+
+        log.info("[fred-ingest] Completed: {} series, {} failed, {} fetched, {} inserted, {} revised, {} unchanged in {} ms",
+                series.size(), failed.size(), candidates.size(), result.inserted(), result.updated(), result.skipped(),
+                (System.nanoTime() - started) / 1_000_000);
+        if (!failed.isEmpty()) {
+            throw new IllegalStateException("FRED fetch failed for " + failed.size() + " of " + series.size()
+                    + " series: " + String.join(", ", failed));
+        }
+        return result.inserted() + result.updated();
+    }
+
+    /**
+     * One event per series that was fetched, changed or not, so downstream stages know the
+     * indicator has settled for today. Series whose fetch failed publish nothing.
+     */
+    private void publishIngested(List<Series> series,
+                                 Map<String, Indicator> indicators,
+                                 Map<String, List<FredClient.FredObservation>> fetched,
+                                 Map<Long, SyncDelta> deltas) {
+        LocalDate today = LocalDate.now();
+        for (Series s : series) {
+            if (!fetched.containsKey(s.getSeriesId())) {
+                continue;
+            }
+            Indicator indicator = indicators.get(s.getIndicatorCode());
+            SyncDelta delta = deltas.get(indicator.getId());
+            eventPublisher.publishEvent(delta != null
+                    ? new IndicatorValuesIngested(indicator, today, delta.newestDate, delta.inserted, delta.revised)
+                    : new IndicatorValuesIngested(indicator, today, null, 0, 0));
+        }
+    }
+
+    private LocalDate startDate(SeriesSyncState state, Indicator indicator) {
+        LocalDate watermark = state != null ? state.getLastObservationDate() : null;
+        if (watermark == null) {
+            // First sync of this series: continue from what is already stored, if anything
+            watermark = indicatorValueService.findLatestByIndicator(indicator)
+                    .map(IndicatorValue::getDate)
+                    .orElse(null);
+        }
+        if (watermark == null) {
+            return LocalDate.now().minusDays(properties.getInitialLookback().toDays());
+        }
+        return watermark.minusDays(properties.getRevisionWindow().toDays());
+    }
+
+    /**
+     * Series whose fetch failed keep their state untouched. A fetch that found nothing new
+     * records the sync but keeps its watermark.
+     */
+    private List<SeriesSyncState> advanceWatermarks(List<Series> series,
+                                                    Map<String, Indicator> indicators,
+                                                    Map<String, SeriesSyncState> states,
+                                                    Map<String, List<FredClient.FredObservation>> fetched,
+                                                    Map<Long, SyncDelta> deltas) {
+        LocalDateTime now = LocalDateTime.now();
+        List<SeriesSyncState> updated = new ArrayList<>();
+
+        for (Series s : series) {
+            List<FredClient.FredObservation> observations = fetched.get(s.getSeriesId());
+            if (observations == null) {
+                continue;
+            }
+            LocalDate newest = observations.stream()
+                    .map(FredClient.FredObservation::date)
+                    .max(LocalDate::compareTo)
+                    .orElse(null);
+
+            SeriesSyncState state = states.get(s.getSeriesId());
+            if (state == null) {
+                state = SeriesSyncState.builder()
+                        .seriesId(s.getSeriesId())
+                        .indicatorCode(s.getIndicatorCode())
+                        .build();
+            }
+            if (newest != null
+                    && (state.getLastObservationDate() == null || newest.isAfter(state.getLastObservationDate()))) {
+                state.setLastObservationDate(newest);
+            }
+            SyncDelta delta = deltas.get(indicators.get(s.getIndicatorCode()).getId());
+            state.setLastInserted(delta != null ? delta.inserted : 0);
+            state.setLastRevised(delta != null ? delta.revised : 0);
+            state.setLastSyncedAt(now);
+            updated.add(state);
+
+            log.debug("[fred-ingest] {} synced to {} ({} inserted, {} revised)",
+                    s.getSeriesId(), state.getLastObservationDate(), state.getLastInserted(), state.getLastRevised());
+        }
+        return updated;
+    }
+
+    private Map<String, Indicator> resolveIndicators(List<Series> series) {
+        Map<String, Indicator> indicators = new LinkedHashMap<>(
+                indicatorService.findByCodes(series.stream().map(Series::getIndicatorCode).toList()));
+        for (Series s : series) {
+            indicators.computeIfAbsent(s.getIndicatorCode(),
+                    code -> indicatorService.findOrCreate(code, s.getName(), s.getUnit()));
+        }
+        return indicators;
+    }
+
+    /**
+     * FredClient is blocking, so each series gets its own virtual thread. Only series that were
+     * fetched are in the result; a failed or circuit-rejected series is left out without
+     * affecting the others.
+     */
+    private Map<String, List<FredClient.FredObservation>> fetchAll(List<Series> series, Map<String, LocalDate> starts) {
+        Map<String, Future<Optional<List<FredClient.FredObservation>>>> pending = new LinkedHashMap<>();
+        Map<String, List<FredClient.FredObservation>> results = new LinkedHashMap<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Series s : series) {
+                LocalDate start = starts.get(s.getSeriesId());
+                pending.putIfAbsent(s.getSeriesId(), executor.submit(() ->
+                        fredClient.fetchHistoricalObservations(s.getSeriesId(), start, properties.getFetchLimit())));
+            }
+            for (Map.Entry<String, Future<Optional<List<FredClient.FredObservation>>>> entry : pending.entrySet()) {
+                try {
+                    entry.getValue().get().ifPresent(observations -> results.put(entry.getKey(), observations));
+                } catch (ExecutionException e) {
+                    log.error("[fred-ingest] Fetch failed for {}: {}", entry.getKey(), e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[fred-ingest] Interrupted while fetching FRED series");
+        }
+        return results;
+    }
+
+    private static final class SyncDelta {
+        private int inserted;
+        private int revised;
+        private LocalDate newestDate;
+
+        void add(IndicatorValueService.Change change) {
+            if (change.inserted()) {
+                inserted++;
+            } else {
+                revised++;
+            }
+            if (newestDate == null || change.date().isAfter(newestDate)) {
+                newestDate = change.date();
+            }
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package com.goldlens.scheduler;
 
 import com.goldlens.client.GoldPricezClient;
-import com.goldlens.domain.GoldPriceHistory;
+import com.goldlens.client.RequestPriority;
 import com.goldlens.exception.GoldApiUnavailableException;
 import com.goldlens.service.GoldPriceHistoryService;
+import com.goldlens.service.GoldPriceTickBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -19,87 +19,100 @@ import java.util.concurrent.atomic.AtomicReference;
  * 
  * Strategy: Persist snapshots to DB to build synthetic history over time.
  * GoldPricez only supports real-time prices, not historical data.
+ * Every run is stored as an intraday tick; the daily history row keeps the latest price of the day.
  * 
- * Rate limit: 30-60 requests/hour. We run every 6 hours (4 req/day) for DB persistence.
+ * Rate limit: 30-60 requests/hour. We run every 6 hours (4 req/day) for DB persistence,
+ * drawing from the scheduler reserve of the shared GoldPricez budget.
  */
 @Component
-public class GoldPriceScheduler {
+public class GoldPriceScheduler implements ScheduledJob {
 
     private static final Logger log = LoggerFactory.getLogger(GoldPriceScheduler.class);
 
     private static final String SOURCE = "GoldPricez";
-    private static final int MAX_CONSECUTIVE_FAILURES = 3;
 
     private final GoldPricezClient goldPricezClient;
     private final GoldPriceHistoryService goldPriceHistoryService;
+    private final GoldPriceTickBuffer goldPriceTickBuffer;
 
     private final AtomicInteger consecutiveFailures = new AtomicInteger(0);
     private final AtomicReference<LocalDateTime> lastSuccessfulFetch = new AtomicReference<>();
 
-    public GoldPriceScheduler(GoldPricezClient goldPricezClient, GoldPriceHistoryService goldPriceHistoryService) {
+    public GoldPriceScheduler(GoldPricezClient goldPricezClient,
+                              GoldPriceHistoryService goldPriceHistoryService,
+                              GoldPriceTickBuffer goldPriceTickBuffer) {
         this.goldPricezClient = goldPricezClient;
         this.goldPriceHistoryService = goldPriceHistoryService;
+        this.goldPriceTickBuffer = goldPriceTickBuffer;
+    }
+
+    @Override
+    public String name() {
+        return "gold-price-snapshot";
+    }
+
+    // Every 6 hours to minimize API calls while building history
+    @Override
+    public String cron() {
+        return "0 0 */6 * * *";
+    }
+
+    @Override
+    public long run(LocalDateTime scheduledFor) {
+        return persistGoldPriceSnapshot();
     }
 
     /**
      * Persists gold price snapshot to DB for synthetic history.
-     * Runs every 6 hours to minimize API calls while building history.
+     * Returns the number of rows written. A run that stored nothing throws, whether the call failed,
+     * was skipped for budget or circuit, or the client is not configured, so the slot is recorded
+     * as failed and claimed again rather than as a successful run of 0 rows.
      */
-    @Scheduled(cron = "0 0 */6 * * *")
-    public void persistGoldPriceSnapshot() {
+    public int persistGoldPriceSnapshot() {
         log.info("[scheduler] Starting gold price persistence job");
 
         if (!goldPricezClient.isConfigured()) {
             log.warn("[scheduler] GoldPricez not configured — skipping");
-            return;
-        }
-
-        if (consecutiveFailures.get() >= MAX_CONSECUTIVE_FAILURES) {
-            log.warn("[scheduler] Skipping due to {} consecutive failures. Will reset on next success.", 
-                    consecutiveFailures.get());
+            throw new IllegalStateException("GoldPricez not configured");
         }
 
         LocalDate today = LocalDate.now();
-        if (goldPriceHistoryService.existsByDate(today)) {
-            log.info("[scheduler] Gold price for {} already persisted — skipping", today);
-            return;
-        }
 
         try {
-            var snapshot = goldPricezClient.fetchLatestGoldPrice();
+            var snapshot = goldPricezClient.fetchLatestGoldPrice(RequestPriority.SCHEDULER);
 
-            GoldPriceHistory history = GoldPriceHistory.builder()
-                    .date(today)
-                    .price(snapshot.getPrice())
-                    .source(SOURCE)
-                    .build();
-
-            goldPriceHistoryService.save(history);
+            goldPriceTickBuffer.record(snapshot);
+            goldPriceHistoryService.recordLatestPrice(today, snapshot.getPrice(), SOURCE);
             
             consecutiveFailures.set(0);
             lastSuccessfulFetch.set(LocalDateTime.now());
             
             log.info("[scheduler] SUCCESS: Persisted gold price {} for {} from GoldPricez", 
                     snapshot.getPrice(), today);
+            return 1;
 
         } catch (GoldApiUnavailableException e) {
+            if (e.isBudgetExhausted()) {
+                log.warn("[scheduler] GoldPricez budget exhausted — skipping this run");
+                throw e;
+            }
+            if (e.isCircuitOpen()) {
+                // Repeated failures are handled by the circuit breaker; nothing was sent to the provider
+                log.warn("[scheduler] GoldPricez circuit open after {} consecutive failures — skipping this run",
+                        consecutiveFailures.get());
+                throw e;
+            }
             int failures = consecutiveFailures.incrementAndGet();
             log.error("[scheduler] FAILED: [requestId={}] [errorType={}] [failures={}] {}",
                     e.getRequestId(), e.getErrorType(), failures, e.getMessage());
-        } catch (Exception e) {
+            throw e;
+        } catch (RuntimeException e) {
             int failures = consecutiveFailures.incrementAndGet();
             log.error("[scheduler] FAILED: [failures={}] Unexpected error: {}", failures, e.getMessage(), e);
+            throw e;
         }
     }
 
-    /**
-     * Historical backfill is NOT SUPPORTED by GoldPricez.
-     * History is built over time via scheduled snapshots.
-     */
-    public void backfillHistory(int lookbackDays, int fetchLimit) {
-        log.warn("[scheduler] Historical backfill not supported — GoldPricez provides real-time data only");
-    }
-
     public int getConsecutiveFailures() {
         return consecutiveFailures.get();
     }
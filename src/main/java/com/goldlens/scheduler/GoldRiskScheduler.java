@@ -3,26 +3,50 @@ package com.goldlens.scheduler;
 import com.goldlens.service.GoldRiskAggregationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
+/**
+ * Safety net for the daily gold risk snapshot. Normally GoldRiskPipelineListener creates it as
+ * soon as all input signals have settled after ingestion; this run only fills the gap when an
+ * input never arrived, using the latest signals available.
+ */
 @Component
-public class GoldRiskScheduler {
+public class GoldRiskScheduler implements ScheduledJob {
 
     private static final Logger log = LoggerFactory.getLogger(GoldRiskScheduler.class);
 
     private final GoldRiskAggregationService goldRiskAggregationService;
+    private final String cron;
 
-    public GoldRiskScheduler(GoldRiskAggregationService goldRiskAggregationService) {
+    public GoldRiskScheduler(GoldRiskAggregationService goldRiskAggregationService,
+                             @Value("${goldlens.risk.safety-net-cron:0 0 9 * * *}") String cron) {
         this.goldRiskAggregationService = goldRiskAggregationService;
+        this.cron = cron;
     }
 
-    // Daily at 06:10 UTC - runs after indicator schedulers to aggregate fresh signals
-    @Scheduled(cron = "0 10 6 * * *")
-    public void computeDailyGoldRisk() {
-        log.info("Starting daily gold risk aggregation");
-        goldRiskAggregationService.computeAndStoreRiskSnapshot(LocalDate.now());
+    @Override
+    public String name() {
+        return "gold-risk";
+    }
+
+    // Daily at 09:00 UTC - well after FRED ingestion, so it only acts when the event path did not
+    @Override
+    public String cron() {
+        return cron;
+    }
+
+    // For the slot's own day: catching up yesterday's slot must not pre-empt today's event-driven snapshot
+    @Override
+    public long run(LocalDateTime scheduledFor) {
+        return computeDailyGoldRisk(scheduledFor.toLocalDate()) ? 1 : 0;
+    }
+
+    public boolean computeDailyGoldRisk(LocalDate asOfDate) {
+        log.info("Starting daily gold risk aggregation (safety net) for {}", asOfDate);
+        return goldRiskAggregationService.computeAndStoreRiskSnapshot(asOfDate);
     }
 }
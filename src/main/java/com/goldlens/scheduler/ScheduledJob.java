@@ -0,0 +1,27 @@
+package com.goldlens.scheduler;
+
+import java.time.LocalDateTime;
+
+/**
+ * A cron job run through the job ledger (ScheduledJobRunner): each cron slot is claimed in
+ * job_runs before running, so it runs on one replica only and a slot missed while the app
+ * was down is caught up on the next start.
+ */
+public interface ScheduledJob {
+
+    /**
+     * Stable name, the ledger key; renaming a job loses its history.
+     */
+    String name();
+
+    /**
+     * Spring cron expression, evaluated in the server time zone.
+     */
+    String cron();
+
+    /**
+     * Runs the job for the given cron slot (possibly a past one when catching up) and returns
+     * the number of rows written. Throwing marks the run FAILED.
+     */
+    long run(LocalDateTime scheduledFor) throws Exception;
+}
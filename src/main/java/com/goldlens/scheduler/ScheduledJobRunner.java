@@ -0,0 +1,133 @@
+package com.goldlens.scheduler;
+
+import com.goldlens.backfill.BackgroundJob;
+import com.goldlens.backfill.BootstrapJobManager;
+import com.goldlens.service.HistoricalBackfillService;
+import com.goldlens.service.JobLedgerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runs every ScheduledJob on its cron through the job ledger.
+ *
+ * Each firing resolves the cron slot it belongs to and claims it in job_runs, so with
+ * several replicas only one of them calls the upstream APIs. On startup, the latest slot of
+ * each job within goldlens.jobs.catch-up-window is claimed as well: slots missed while the
+ * app was down (or whose run failed) are run once, in slot order, as a bootstrap job.
+ * The catch-up waits for the FRED history backfill to finish first, so the two never fetch
+ * and upsert the same series at the same time.
+ */
+@Component
+public class ScheduledJobRunner implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduledJobRunner.class);
+
+    private final List<ScheduledJob> jobs;
+    private final JobLedgerService jobLedgerService;
+    private final BootstrapJobManager bootstrapJobManager;
+    private final Duration catchUpWindow;
+
+    public ScheduledJobRunner(List<ScheduledJob> jobs,
+                              JobLedgerService jobLedgerService,
+                              BootstrapJobManager bootstrapJobManager,
+                              @Value("${goldlens.jobs.catch-up-window:PT24H}") Duration catchUpWindow) {
+        this.jobs = jobs;
+        this.jobLedgerService = jobLedgerService;
+        this.bootstrapJobManager = bootstrapJobManager;
+        this.catchUpWindow = catchUpWindow;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        for (ScheduledJob job : jobs) {
+            CronExpression cron = CronExpression.parse(job.cron());
+            taskRegistrar.addCronTask(() -> latestSlot(cron, LocalDateTime.now(), catchUpWindow)
+                    .ifPresent(slot -> runSlot(job, slot)), job.cron());
+            log.info("[jobs] Registered {} with cron '{}'", job.name(), job.cron());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        bootstrapJobManager.submit("scheduled-job-catch-up", this::catchUp);
+    }
+
+    private void catchUp(BackgroundJob bootstrapJob) throws InterruptedException {
+        Optional<BackgroundJob> backfill = bootstrapJobManager.find(HistoricalBackfillService.JOB_NAME);
+        if (backfill.isPresent() && !backfill.get().isFinished()) {
+            bootstrapJob.progress(0, null, "Waiting for " + HistoricalBackfillService.JOB_NAME);
+            log.info("[jobs] Catch-up waiting for {} to finish", HistoricalBackfillService.JOB_NAME);
+            backfill.get().awaitFinished();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingSlot> pending = new ArrayList<>();
+        for (ScheduledJob job : jobs) {
+            latestSlot(CronExpression.parse(job.cron()), now, catchUpWindow)
+                    .ifPresent(slot -> pending.add(new PendingSlot(job, slot)));
+        }
+        // Oldest slot first, so e.g. FRED ingestion catches up before risk aggregation
+        pending.sort(Comparator.comparing(PendingSlot::slot));
+
+        int done = 0;
+        for (PendingSlot p : pending) {
+            bootstrapJob.progress(done++, (long) pending.size(), "Checking " + p.job().name() + " @ " + p.slot());
+            runSlot(p.job(), p.slot());
+        }
+        bootstrapJob.progress(done, (long) pending.size(), "Done");
+    }
+
+    private void runSlot(ScheduledJob job, LocalDateTime slot) {
+        Optional<Long> claimed = jobLedgerService.claim(job.name(), slot);
+        if (claimed.isEmpty()) {
+            log.debug("[jobs] {} @ {} already ran or is running elsewhere — skipping", job.name(), slot);
+            return;
+        }
+
+        long runId = claimed.get();
+        long started = System.nanoTime();
+        log.info("[jobs] Running {} for slot {} (run {})", job.name(), slot, runId);
+        try {
+            long rows = job.run(slot);
+            jobLedgerService.succeeded(runId, rows);
+            log.info("[jobs] {} @ {} succeeded: {} rows in {} ms",
+                    job.name(), slot, rows, (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            jobLedgerService.failed(runId, e);
+            log.error("[jobs] {} @ {} failed: {}", job.name(), slot, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The most recent cron fire time at or before now, if one falls within the window.
+     */
+    static Optional<LocalDateTime> latestSlot(CronExpression cron, LocalDateTime now, Duration window) {
+        LocalDateTime current = now.truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime slot = null;
+        // next() is exclusive, so start just before the window to include its first second
+        LocalDateTime next = cron.next(current.minus(window).minusSeconds(1));
+        while (next != null && !next.isAfter(current)) {
+            slot = next;
+            next = cron.next(next);
+        }
+        return Optional.ofNullable(slot);
+    }
+
+    private record PendingSlot(ScheduledJob job, LocalDateTime slot) {
+    }
+}
@@ -0,0 +1,270 @@
+package com.goldlens.service;
+
+import com.goldlens.domain.BackfillCheckpoint;
+import com.goldlens.domain.BackfillStatus;
+import com.goldlens.domain.Indicator;
+import com.goldlens.domain.IndicatorValue;
+import com.goldlens.repository.BackfillCheckpointRepository;
+import com.goldlens.scheduler.FredClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deep historical backfill of a FRED series over an arbitrary date range.
+ *
+ * Pages through FRED with limit/offset, fetching up to `concurrency` pages at once and pacing
+ * requests to stay inside FRED's per-minute limit. Each page is upserted (ON CONFLICT DO NOTHING)
+ * as soon as it arrives, so memory holds at most the in-flight pages. Progress is checkpointed
+ * in backfill_checkpoints after every page; a run that fails or is interrupted resumes from
+ * the first unwritten page, and a completed series is not fetched again.
+ */
+@Service
+public class FredBackfillService {
+
+    private static final Logger log = LoggerFactory.getLogger(FredBackfillService.class);
+
+    private static final String SOURCE = "FRED";
+
+    private final FredClient fredClient;
+    private final IndicatorValueService indicatorValueService;
+    private final BackfillCheckpointRepository checkpointRepository;
+    private final LocalDate defaultFrom;
+    private final int pageSize;
+    private final int concurrency;
+    private final long requestIntervalNanos;
+
+    // Shared across runs: the earliest time the next FRED request may start
+    private final AtomicLong nextRequestNanos = new AtomicLong(System.nanoTime());
+
+    public FredBackfillService(FredClient fredClient,
+                               IndicatorValueService indicatorValueService,
+                               BackfillCheckpointRepository checkpointRepository,
+                               @Value("${goldlens.fred.backfill.from:1990-01-01}") String defaultFrom,
+                               @Value("${goldlens.fred.backfill.page-size:1000}") int pageSize,
+                               @Value("${goldlens.fred.backfill.concurrency:4}") int concurrency,
+                               @Value("${goldlens.fred.backfill.requests-per-minute:100}") int requestsPerMinute) {
+        this.fredClient = fredClient;
+        this.indicatorValueService = indicatorValueService;
+        this.checkpointRepository = checkpointRepository;
+        this.defaultFrom = LocalDate.parse(defaultFrom);
+        this.pageSize = pageSize;
+        this.concurrency = Math.max(1, concurrency);
+        this.requestIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, requestsPerMinute);
+    }
+
+    /**
+     * Backfills from goldlens.fred.backfill.from up to today.
+     */
+    public BackfillResult backfill(Indicator indicator, String seriesId) {
+        return backfill(indicator, seriesId, defaultFrom);
+    }
+
+    /**
+     * Backfills from {@code from} up to today. A completed backfill covers any later start: the
+     * observations after its range end are the tail fred-ingest syncs incrementally from its
+     * watermark, so they are never a reason to page through the whole history again.
+     */
+    public BackfillResult backfill(Indicator indicator, String seriesId, LocalDate from) {
+        BackfillCheckpoint checkpoint = resolveCheckpoint(seriesId, from, LocalDate.now());
+        if (checkpoint.getStatus() == BackfillStatus.COMPLETED) {
+            log.info("[backfill] {} already backfilled from {} to {} ({} rows) — skipping",
+                    seriesId, checkpoint.getRangeStart(), checkpoint.getRangeEnd(), checkpoint.getRowsWritten());
+            return new BackfillResult(seriesId, BackfillStatus.COMPLETED, 0, 0);
+        }
+
+        Run run = new Run(indicator, checkpoint);
+        log.info("[backfill] {} from {} to {}: starting at offset {} (page size {}, concurrency {})",
+                seriesId, checkpoint.getRangeStart(), checkpoint.getRangeEnd(), checkpoint.getNextOffset(),
+                checkpoint.getPageSize(), concurrency);
+
+        // The first page tells us FRED's total count, which fixes the remaining offsets
+        int firstOffset = checkpoint.getNextOffset();
+        Optional<Integer> total = loadPage(run, firstOffset);
+
+        if (total.isPresent()) {
+            List<Integer> offsets = new ArrayList<>();
+            for (int offset = firstOffset + run.pageSize; offset < total.get(); offset += run.pageSize) {
+                offsets.add(offset);
+            }
+            loadConcurrently(run, offsets);
+        }
+
+        BackfillCheckpoint finished = run.finish();
+        log.info("[backfill] {} {}: {} pages, {} rows written this run, next offset {} of {}",
+                seriesId, finished.getStatus(), run.pagesWritten, run.rowsWritten,
+                finished.getNextOffset(), finished.getTotalCount());
+        return new BackfillResult(seriesId, finished.getStatus(), run.pagesWritten, run.rowsWritten);
+    }
+
+    private BackfillCheckpoint resolveCheckpoint(String seriesId, LocalDate from, LocalDate to) {
+        LocalDateTime now = LocalDateTime.now();
+        BackfillCheckpoint checkpoint = checkpointRepository.findBySeriesId(seriesId)
+                .orElseGet(() -> BackfillCheckpoint.builder().seriesId(seriesId).build());
+
+        boolean resumable = checkpoint.getId() != null
+                && checkpoint.getStatus() != BackfillStatus.COMPLETED
+                && from.equals(checkpoint.getRangeStart())
+                && checkpoint.getPageSize() == pageSize;
+        boolean covered = checkpoint.getStatus() == BackfillStatus.COMPLETED
+                && !from.isBefore(checkpoint.getRangeStart());
+
+        if (covered) {
+            return checkpoint;
+        }
+        if (!resumable) {
+            // Offsets are only stable for the same range and page size: start over
+            checkpoint.setRangeStart(from);
+            checkpoint.setRangeEnd(to);
+            checkpoint.setPageSize(pageSize);
+            checkpoint.setTotalCount(null);
+            checkpoint.setNextOffset(0);
+            checkpoint.setRowsWritten(0);
+            checkpoint.setStartedAt(now);
+        }
+        checkpoint.setStatus(BackfillStatus.RUNNING);
+        checkpoint.setUpdatedAt(now);
+        return checkpointRepository.save(checkpoint);
+    }
+
+    private void loadConcurrently(Run run, List<Integer> offsets) {
+        if (offsets.isEmpty()) {
+            return;
+        }
+        Semaphore inFlight = new Semaphore(concurrency);
+        List<Future<?>> pages = new ArrayList<>(offsets.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int offset : offsets) {
+                inFlight.acquire();
+                pages.add(executor.submit(() -> {
+                    try {
+                        loadPage(run, offset);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> page : pages) {
+                page.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[backfill] {} interrupted — will resume from the checkpoint", run.seriesId);
+        } catch (Exception e) {
+            log.error("[backfill] {} page failed: {}", run.seriesId, e.getMessage());
+        }
+    }
+
+    /**
+     * Fetches and writes one page. Returns FRED's total count, or empty if the page could not be fetched.
+     */
+    private Optional<Integer> loadPage(Run run, int offset) {
+        try {
+            pace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[backfill] {} interrupted before page at offset {} — stopping checkpoint there", run.seriesId, offset);
+            return Optional.empty();
+        }
+        Optional<FredClient.ObservationPage> fetched = fredClient.fetchObservationPage(
+                run.seriesId, run.rangeStart, run.rangeEnd, run.pageSize, offset);
+        if (fetched.isEmpty()) {
+            log.warn("[backfill] {} page at offset {} failed — stopping checkpoint there", run.seriesId, offset);
+            return Optional.empty();
+        }
+
+        FredClient.ObservationPage page = fetched.get();
+        List<IndicatorValue> values = page.observations().stream()
+                .map(observation -> IndicatorValue.builder()
+                        .indicator(run.indicator)
+                        .value(observation.value())
+                        .date(observation.date())
+                        .source(SOURCE)
+                        .build())
+                .toList();
+
+        int inserted = values.isEmpty() ? 0
+                : indicatorValueService.upsertAll(values, IndicatorValueService.OnConflict.SKIP).inserted();
+        run.pageWritten(offset, page.totalCount(), inserted);
+        return Optional.of(page.totalCount());
+    }
+
+    // Spaces request starts requestIntervalNanos apart across all concurrent pages
+    private void pace() throws InterruptedException {
+        long now = System.nanoTime();
+        long slot = nextRequestNanos.getAndUpdate(next -> Math.max(next, now) + requestIntervalNanos);
+        long wait = Math.max(slot, now) - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Mutable state of one backfill run; page completions are serialised so the checkpoint
+     * only ever advances over a contiguous prefix of written pages.
+     */
+    private final class Run {
+
+        private final Indicator indicator;
+        private final String seriesId;
+        private final LocalDate rangeStart;
+        private final LocalDate rangeEnd;
+        private final int pageSize;
+        private final TreeSet<Integer> writtenAhead = new TreeSet<>();
+
+        private BackfillCheckpoint checkpoint;
+        private int pagesWritten;
+        private long rowsWritten;
+
+        Run(Indicator indicator, BackfillCheckpoint checkpoint) {
+            this.indicator = indicator;
+            this.seriesId = checkpoint.getSeriesId();
+            this.rangeStart = checkpoint.getRangeStart();
+            this.rangeEnd = checkpoint.getRangeEnd();
+            this.pageSize = checkpoint.getPageSize();
+            this.checkpoint = checkpoint;
+        }
+
+        synchronized void pageWritten(int offset, int totalCount, int inserted) {
+            pagesWritten++;
+            rowsWritten += inserted;
+
+            writtenAhead.add(offset);
+            int next = checkpoint.getNextOffset();
+            while (writtenAhead.remove(next)) {
+                next += pageSize;
+            }
+            checkpoint.setNextOffset(next);
+            checkpoint.setTotalCount(totalCount);
+            checkpoint.setRowsWritten(checkpoint.getRowsWritten() + inserted);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            checkpoint = checkpointRepository.save(checkpoint);
+        }
+
+        synchronized BackfillCheckpoint finish() {
+            Integer total = checkpoint.getTotalCount();
+            boolean complete = total != null && checkpoint.getNextOffset() >= total;
+            checkpoint.setStatus(complete ? BackfillStatus.COMPLETED : BackfillStatus.FAILED);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            checkpoint = checkpointRepository.save(checkpoint);
+            return checkpoint;
+        }
+    }
+
+    public record BackfillResult(String seriesId, BackfillStatus status, int pagesWritten, long rowsWritten) {}
+}
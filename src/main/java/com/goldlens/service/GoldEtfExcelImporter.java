@@ -2,18 +2,44 @@ package com.goldlens.service;
 
 import com.goldlens.domain.GoldEtfFlow;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
-import java.time.ZoneId;
-import java.util.*;
-
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Imports monthly ETF flows and holdings from the World Gold Council workbook.
+ *
+ * Streams the "Charts Data" sheet XML with SAX (POI event model) instead of building an
+ * XSSFWorkbook, so no sheet is held in memory; only the flow and holdings column ranges are
+ * read. Values are collected per month in a small table keyed by month index and then handed
+ * to the caller one record at a time. Peak memory depends on the number of months, not on
+ * the size of the workbook.
+ */
 @Service
 @Slf4j
 public class GoldEtfExcelImporter {
@@ -21,147 +47,323 @@ public class GoldEtfExcelImporter {
     private static final String EXCEL_FILE = "ETF_Flows_December_2025.xlsx";
     private static final String SHEET_NAME = "Charts Data";
 
+    // Zero-based column indexes: date, then North America, Europe, Asia, Other (J..N and AI..AM)
     private static final int FLOW_DATE_COL = 9;
-    private static final int FLOW_NA_COL = 10;
-    private static final int FLOW_EU_COL = 11;
-    private static final int FLOW_ASIA_COL = 12;
     private static final int FLOW_OTHER_COL = 13;
 
     private static final int HOLDINGS_DATE_COL = 34;
-    private static final int HOLDINGS_NA_COL = 35;
-    private static final int HOLDINGS_EU_COL = 36;
-    private static final int HOLDINGS_ASIA_COL = 37;
     private static final int HOLDINGS_OTHER_COL = 38;
 
+    // Zero-based; rows above hold headers
     private static final int DATA_START_ROW = 2;
 
     private static final String[] REGIONS = {"North America", "Europe", "Asia", "Other"};
 
-    public List<GoldEtfFlow> parseExcel() {
-        Map<String, GoldEtfFlow> flowMap = new LinkedHashMap<>();
-
-        try (InputStream is = new ClassPathResource(EXCEL_FILE).getInputStream();
-             Workbook workbook = new XSSFWorkbook(is)) {
+    /**
+     * Parses the workbook and passes each (month, region) record to the sink.
+     *
+     * @return number of records produced
+     * @throws IOException if the workbook is missing, unreadable or has no "Charts Data" sheet
+     */
+    public int parseExcel(Consumer<GoldEtfFlow> sink) throws IOException {
+        MonthTable table = new MonthTable();
+        Path file = null;
 
-            Sheet sheet = workbook.getSheet(SHEET_NAME);
-            if (sheet == null) {
-                log.error("Sheet '{}' not found in Excel file", SHEET_NAME);
-                return new ArrayList<>();
+        try {
+            // OPCPackage reads a file lazily; opening from a stream would buffer the whole zip
+            file = Files.createTempFile("etf-flows-", ".xlsx");
+            try (InputStream is = new ClassPathResource(EXCEL_FILE).getInputStream()) {
+                Files.copy(is, file, StandardCopyOption.REPLACE_EXISTING);
             }
 
-            log.info("Starting Excel parsing from sheet '{}'", SHEET_NAME);
-
-            int rowCount = sheet.getLastRowNum();
-            log.info("Total rows in sheet: {}", rowCount);
-
-            for (int rowIdx = DATA_START_ROW; rowIdx <= rowCount; rowIdx++) {
-                Row row = sheet.getRow(rowIdx);
-                if (row == null) continue;
+            try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+                XSSFReader reader = new XSSFReader(pkg);
+                XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+
+                boolean found = false;
+                while (sheets.hasNext()) {
+                    try (InputStream sheet = sheets.next()) {
+                        if (!SHEET_NAME.equals(sheets.getSheetName())) {
+                            continue;
+                        }
+                        found = true;
+                        log.info("Starting streaming Excel parse of sheet '{}'", SHEET_NAME);
+                        XMLReader parser = XMLHelper.newXMLReader();
+                        parser.setContentHandler(new SheetHandler(
+                                new ReadOnlySharedStringsTable(pkg), dateStyles(reader.getStylesTable()), table));
+                        parser.parse(new InputSource(sheet));
+                    }
+                }
 
-                parseFlowsSection(row, flowMap);
-                parseHoldingsSection(row, flowMap);
+                if (!found) {
+                    throw new IOException("Sheet '" + SHEET_NAME + "' not found in " + EXCEL_FILE);
+                }
             }
-
-            log.info("Parsed {} unique ETF flow records from Excel", flowMap.size());
-
+        } catch (IOException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("Error parsing Excel file: {}", e.getMessage(), e);
+            // OpenXML4J and SAX failures: the workbook is corrupt or not an xlsx file
+            throw new IOException("Could not parse " + EXCEL_FILE + ": " + e.getMessage(), e);
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (Exception e) {
+                    log.debug("Could not delete temp file {}: {}", file, e.getMessage());
+                }
+            }
         }
 
-        return new ArrayList<>(flowMap.values());
+        int emitted = table.emit(sink);
+        log.info("Parsed {} unique ETF flow records from Excel", emitted);
+        return emitted;
     }
 
-    private void parseFlowsSection(Row row, Map<String, GoldEtfFlow> flowMap) {
-        LocalDate flowDate = parseDateCell(row.getCell(FLOW_DATE_COL));
-        if (flowDate == null) return;
-
-        LocalDate normalizedDate = LocalDate.of(flowDate.getYear(), flowDate.getMonth(), 1);
+    private static BitSet dateStyles(StylesTable styles) {
+        BitSet dates = new BitSet();
+        if (styles == null) {
+            return dates;
+        }
+        for (int i = 0; i < styles.getNumCellStyles(); i++) {
+            XSSFCellStyle style = styles.getStyleAt(i);
+            if (style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString())) {
+                dates.set(i);
+            }
+        }
+        return dates;
+    }
 
-        int[] flowCols = {FLOW_NA_COL, FLOW_EU_COL, FLOW_ASIA_COL, FLOW_OTHER_COL};
+    /**
+     * Per-month values: slots 0-3 net flow by region, 4-7 holdings by region.
+     * Keyed by year * 12 + month, so records come out in date order.
+     */
+    private static final class MonthTable {
 
-        for (int i = 0; i < REGIONS.length; i++) {
-            BigDecimal flowValue = parseNumericCell(row.getCell(flowCols[i]));
-            if (flowValue == null) continue;
+        private final Map<Integer, BigDecimal[]> months = new TreeMap<>();
 
-            String key = normalizedDate + "_" + REGIONS[i];
-            GoldEtfFlow existing = flowMap.get(key);
+        void put(LocalDate date, int slot, BigDecimal value) {
+            int key = date.getYear() * 12 + date.getMonthValue() - 1;
+            months.computeIfAbsent(key, k -> new BigDecimal[REGIONS.length * 2])[slot] = value;
+        }
 
-            if (existing != null) {
-                existing.setNetFlowTonnes(flowValue);
-            } else {
-                GoldEtfFlow etfFlow = GoldEtfFlow.builder()
-                        .date(normalizedDate)
-                        .region(REGIONS[i])
-                        .netFlowTonnes(flowValue)
-                        .build();
-                flowMap.put(key, etfFlow);
+        int emit(Consumer<GoldEtfFlow> sink) {
+            int count = 0;
+            for (Map.Entry<Integer, BigDecimal[]> entry : months.entrySet()) {
+                LocalDate date = LocalDate.of(entry.getKey() / 12, entry.getKey() % 12 + 1, 1);
+                BigDecimal[] values = entry.getValue();
+                for (int region = 0; region < REGIONS.length; region++) {
+                    BigDecimal flow = values[region];
+                    BigDecimal holdings = values[REGIONS.length + region];
+                    if (flow == null && holdings == null) {
+                        continue;
+                    }
+                    sink.accept(GoldEtfFlow.builder()
+                            .date(date)
+                            .region(REGIONS[region])
+                            .netFlowTonnes(flow)
+                            .holdingsTonnes(holdings)
+                            .build());
+                    count++;
+                }
             }
+            return count;
         }
     }
 
-    private void parseHoldingsSection(Row row, Map<String, GoldEtfFlow> flowMap) {
-        LocalDate holdingsDate = parseDateCell(row.getCell(HOLDINGS_DATE_COL));
-        if (holdingsDate == null) return;
+    /**
+     * SAX handler over the sheet XML. Buffers the current row's wanted cells only, as raw
+     * values: a row's date cell may come after its values in document order.
+     */
+    private static final class SheetHandler extends DefaultHandler {
+
+        private final ReadOnlySharedStringsTable strings;
+        private final BitSet dateStyles;
+        private final MonthTable table;
+
+        // Current row: raw cell values by wanted column, and whether the date cells are dates
+        private final String[] flowCells = new String[FLOW_OTHER_COL - FLOW_DATE_COL + 1];
+        private final String[] holdingsCells = new String[HOLDINGS_OTHER_COL - HOLDINGS_DATE_COL + 1];
+        private boolean flowDateIsDate;
+        private boolean holdingsDateIsDate;
+        private int rowIndex = -1;
+
+        // Current cell
+        private int column = -1;
+        private String cellType;
+        private int style;
+        private boolean inValue;
+        private final StringBuilder value = new StringBuilder();
+
+        SheetHandler(ReadOnlySharedStringsTable strings, BitSet dateStyles, MonthTable table) {
+            this.strings = strings;
+            this.dateStyles = dateStyles;
+            this.table = table;
+        }
 
-        LocalDate normalizedDate = LocalDate.of(holdingsDate.getYear(), holdingsDate.getMonth(), 1);
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row" -> {
+                    String r = attributes.getValue("r");
+                    rowIndex = r != null ? Integer.parseInt(r) - 1 : rowIndex + 1;
+                    Arrays.fill(flowCells, null);
+                    Arrays.fill(holdingsCells, null);
+                    flowDateIsDate = false;
+                    holdingsDateIsDate = false;
+                }
+                case "c" -> {
+                    column = rowIndex >= DATA_START_ROW ? columnIndex(attributes.getValue("r")) : -1;
+                    if (!isWanted(column)) {
+                        column = -1;
+                        return;
+                    }
+                    cellType = attributes.getValue("t");
+                    String s = attributes.getValue("s");
+                    style = s != null ? Integer.parseInt(s) : 0;
+                    value.setLength(0);
+                }
+                // <v> holds the value; <t> the text of an inline string
+                case "v", "t" -> inValue = column >= 0;
+                default -> {
+                }
+            }
+        }
 
-        int[] holdingsCols = {HOLDINGS_NA_COL, HOLDINGS_EU_COL, HOLDINGS_ASIA_COL, HOLDINGS_OTHER_COL};
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue) {
+                value.append(ch, start, length);
+            }
+        }
 
-        for (int i = 0; i < REGIONS.length; i++) {
-            BigDecimal holdingsValue = parseNumericCell(row.getCell(holdingsCols[i]));
-            if (holdingsValue == null) continue;
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v", "t" -> inValue = false;
+                case "c" -> {
+                    if (column >= 0) {
+                        storeCell();
+                    }
+                    column = -1;
+                }
+                case "row" -> {
+                    if (rowIndex >= DATA_START_ROW) {
+                        endRow();
+                    }
+                }
+                default -> {
+                }
+            }
+        }
 
-            String key = normalizedDate + "_" + REGIONS[i];
-            GoldEtfFlow existing = flowMap.get(key);
+        private void storeCell() {
+            String raw = "s".equals(cellType) ? sharedString() : value.toString();
+            boolean numeric = cellType == null || "n".equals(cellType);
+            boolean isDate = numeric && dateStyles.get(style);
+            // Booleans and errors never carry a value we want
+            if ("b".equals(cellType) || "e".equals(cellType)) {
+                raw = null;
+            }
 
-            if (existing != null) {
-                existing.setHoldingsTonnes(holdingsValue);
+            if (column >= FLOW_DATE_COL && column <= FLOW_OTHER_COL) {
+                flowCells[column - FLOW_DATE_COL] = numeric || raw == null ? raw : "'" + raw;
+                if (column == FLOW_DATE_COL) {
+                    flowDateIsDate = isDate;
+                }
             } else {
-                GoldEtfFlow etfFlow = GoldEtfFlow.builder()
-                        .date(normalizedDate)
-                        .region(REGIONS[i])
-                        .holdingsTonnes(holdingsValue)
-                        .build();
-                flowMap.put(key, etfFlow);
+                holdingsCells[column - HOLDINGS_DATE_COL] = numeric || raw == null ? raw : "'" + raw;
+                if (column == HOLDINGS_DATE_COL) {
+                    holdingsDateIsDate = isDate;
+                }
             }
         }
-    }
 
-    private LocalDate parseDateCell(Cell cell) {
-        if (cell == null) return null;
+        private String sharedString() {
+            try {
+                return strings.getItemAt(Integer.parseInt(value.toString())).getString();
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
 
-        try {
-            if (cell.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(cell)) {
-                Date date = cell.getDateCellValue();
-                return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+        private void endRow() {
+            addSection(flowCells, flowDateIsDate, 0);
+            addSection(holdingsCells, holdingsDateIsDate, REGIONS.length);
+        }
+
+        private void addSection(String[] cells, boolean dateIsDate, int slotOffset) {
+            LocalDate date = dateIsDate ? parseDate(cells[0]) : null;
+            if (date == null) {
+                return;
+            }
+            for (int region = 0; region < REGIONS.length; region++) {
+                BigDecimal parsed = parseNumeric(cells[region + 1]);
+                if (parsed != null) {
+                    table.put(date, slotOffset + region, parsed);
+                }
             }
-        } catch (Exception e) {
-            log.trace("Could not parse date from cell: {}", e.getMessage());
         }
-        return null;
-    }
 
-    private BigDecimal parseNumericCell(Cell cell) {
-        if (cell == null) return null;
+        private static boolean isWanted(int column) {
+            return (column >= FLOW_DATE_COL && column <= FLOW_OTHER_COL)
+                    || (column >= HOLDINGS_DATE_COL && column <= HOLDINGS_OTHER_COL);
+        }
 
-        try {
-            if (cell.getCellType() == CellType.NUMERIC) {
-                double value = cell.getNumericCellValue();
-                if (Double.isNaN(value) || Double.isInfinite(value)) {
-                    return null;
+        /**
+         * Zero-based column index from a cell reference such as "AJ12".
+         */
+        private static int columnIndex(String reference) {
+            if (reference == null) {
+                return -1;
+            }
+            int column = 0;
+            for (int i = 0; i < reference.length(); i++) {
+                char c = reference.charAt(i);
+                if (c < 'A' || c > 'Z') {
+                    break;
+                }
+                column = column * 26 + (c - 'A' + 1);
+            }
+            return column - 1;
+        }
+
+        private static LocalDate parseDate(String raw) {
+            if (raw == null || raw.isEmpty()) {
+                return null;
+            }
+            try {
+                return DateUtil.getLocalDateTime(Double.parseDouble(raw)).toLocalDate();
+            } catch (RuntimeException e) {
+                log.trace("Could not parse date from cell: {}", e.getMessage());
+                return null;
+            }
+        }
+
+        /**
+         * Numbers come in raw; text cells are marked with a leading quote and parsed leniently.
+         */
+        private static BigDecimal parseNumeric(String raw) {
+            if (raw == null || raw.isEmpty()) {
+                return null;
+            }
+            try {
+                if (raw.charAt(0) != '\'') {
+                    double value = Double.parseDouble(raw);
+                    if (Double.isNaN(value) || Double.isInfinite(value)) {
+                        return null;
+                    }
+                    return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
                 }
-                return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
-            } else if (cell.getCellType() == CellType.STRING) {
-                String strValue = cell.getStringCellValue().trim();
+                String strValue = raw.substring(1).trim();
                 if (strValue.isEmpty() || strValue.equals("-") || strValue.equalsIgnoreCase("n/a")) {
                     return null;
                 }
                 strValue = strValue.replace(",", "");
                 return new BigDecimal(strValue).setScale(2, RoundingMode.HALF_UP);
+            } catch (RuntimeException e) {
+                log.trace("Could not parse numeric value from cell: {}", e.getMessage());
+                return null;
             }
-        } catch (Exception e) {
-            log.trace("Could not parse numeric value from cell: {}", e.getMessage());
         }
-        return null;
     }
 }
@@ -6,18 +6,43 @@ import com.goldlens.dto.EtfFlowResponseDto;
 import com.goldlens.repository.GoldEtfFlowRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GoldEtfFlowService {
 
+    private static final int UPSERT_CHUNK_SIZE = 5000;
+
+    // Unchanged rows are not touched; xmax = 0 only for rows this statement inserted
+    private static final String UPSERT_SQL = """
+            INSERT INTO gold_etf_flows (date, region, holdings_tonnes, net_flow_tonnes, source, created_at)
+            SELECT d, r, h, f, s, ? FROM unnest(?::date[], ?::varchar[], ?::numeric[], ?::numeric[], ?::varchar[])
+                AS t(d, r, h, f, s)
+            ON CONFLICT (date, region) DO UPDATE
+                SET holdings_tonnes = EXCLUDED.holdings_tonnes, net_flow_tonnes = EXCLUDED.net_flow_tonnes
+                WHERE gold_etf_flows.holdings_tonnes IS DISTINCT FROM EXCLUDED.holdings_tonnes
+                   OR gold_etf_flows.net_flow_tonnes IS DISTINCT FROM EXCLUDED.net_flow_tonnes
+            RETURNING (xmax = 0)
+            """;
+
     private final GoldEtfFlowRepository repository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional(readOnly = true)
     public EtfFlowResponseDto getEtfFlows(int months) {
@@ -49,14 +74,54 @@ public class GoldEtfFlowService {
                 .build();
     }
 
+    /**
+     * Upserts ETF flows keyed by (date, region) with one INSERT ... ON CONFLICT per chunk of
+     * 5000 rows: new rows are inserted, rows whose holdings or flow changed are updated in
+     * place, identical rows are left alone. Duplicate keys in the input keep the last row.
+     */
     @Transactional
-    public int upsertFlow(GoldEtfFlow flow) {
-        if (repository.existsByDateAndRegion(flow.getDate(), flow.getRegion())) {
-            log.trace("Skipping duplicate: date={}, region={}", flow.getDate(), flow.getRegion());
-            return 0;
+    public UpsertResult upsertAll(List<GoldEtfFlow> flows) {
+        Map<FlowKey, GoldEtfFlow> unique = new LinkedHashMap<>();
+        for (GoldEtfFlow flow : flows) {
+            unique.put(new FlowKey(flow.getDate(), flow.getRegion()), flow);
+        }
+
+        List<GoldEtfFlow> rows = new ArrayList<>(unique.values());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] counts = new int[2]; // inserted, updated
+
+        for (int from = 0; from < rows.size(); from += UPSERT_CHUNK_SIZE) {
+            List<GoldEtfFlow> chunk = rows.subList(from, Math.min(rows.size(), from + UPSERT_CHUNK_SIZE));
+            jdbcTemplate.query(connection -> {
+                Date[] dates = new Date[chunk.size()];
+                String[] regions = new String[chunk.size()];
+                BigDecimal[] holdings = new BigDecimal[chunk.size()];
+                BigDecimal[] netFlows = new BigDecimal[chunk.size()];
+                String[] sources = new String[chunk.size()];
+                for (int i = 0; i < chunk.size(); i++) {
+                    GoldEtfFlow row = chunk.get(i);
+                    dates[i] = Date.valueOf(row.getDate());
+                    regions[i] = row.getRegion();
+                    holdings[i] = row.getHoldingsTonnes();
+                    netFlows[i] = row.getNetFlowTonnes();
+                    sources[i] = row.getSource();
+                }
+                PreparedStatement statement = connection.prepareStatement(UPSERT_SQL);
+                statement.setTimestamp(1, now);
+                statement.setArray(2, connection.createArrayOf("date", dates));
+                statement.setArray(3, connection.createArrayOf("varchar", regions));
+                statement.setArray(4, connection.createArrayOf("numeric", holdings));
+                statement.setArray(5, connection.createArrayOf("numeric", netFlows));
+                statement.setArray(6, connection.createArrayOf("varchar", sources));
+                return statement;
+            }, (ResultSet rs) -> {
+                counts[rs.getBoolean(1) ? 0 : 1]++;
+            });
         }
-        repository.save(flow);
-        return 1;
+
+        UpsertResult result = new UpsertResult(counts[0], counts[1], rows.size() - counts[0] - counts[1]);
+        log.debug("ETF upsert: {} inserted, {} updated, {} unchanged", result.inserted(), result.updated(), result.unchanged());
+        return result;
     }
 
     public long count() {
@@ -71,4 +136,8 @@ public class GoldEtfFlowService {
                 .netFlowTonnes(flow.getNetFlowTonnes())
                 .build();
     }
+
+    public record UpsertResult(int inserted, int updated, int unchanged) {}
+
+    private record FlowKey(LocalDate date, String region) {}
 }
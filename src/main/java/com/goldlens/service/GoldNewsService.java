@@ -7,11 +7,11 @@ import com.goldlens.dto.GoldNewsResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -74,31 +74,38 @@ public class GoldNewsService {
         this.gNewsClient = gNewsClient;
     }
 
-    public GoldNewsResponse getGoldNews() {
-        String provider = null;
-        List<GoldNewsItem> items = Collections.emptyList();
-
+    /**
+     * Fetches news from the primary provider, falling back to GNews when it fails or returns nothing.
+     * Non-blocking; always completes with a response (empty items when no provider delivered).
+     */
+    public Mono<GoldNewsResponse> getGoldNews() {
         // Try primary provider (NewsAPI)
-        if (newsApiClient.isConfigured()) {
-            Optional<List<GoldNewsItem>> result = newsApiClient.fetchGoldNews();
-            if (result.isPresent() && !result.get().isEmpty()) {
-                items = result.get();
-                provider = newsApiClient.getProviderName();
-                log.info("[GoldNews] Fetched {} raw articles from primary provider", items.size());
-            }
-        }
+        Mono<ProviderNews> primary = newsApiClient.isConfigured()
+                ? newsApiClient.fetchGoldNews()
+                        .filter(items -> !items.isEmpty())
+                        .doOnNext(items -> log.info("[GoldNews] Fetched {} raw articles from primary provider", items.size()))
+                        .map(items -> new ProviderNews(newsApiClient.getProviderName(), items))
+                : Mono.empty();
 
         // Fallback to GNews if primary failed
-        if (items.isEmpty() && gNewsClient.isConfigured()) {
-            log.info("[GoldNews] Primary provider failed or empty, trying fallback");
-            Optional<List<GoldNewsItem>> result = gNewsClient.fetchGoldNews();
-            if (result.isPresent() && !result.get().isEmpty()) {
-                items = result.get();
-                provider = gNewsClient.getProviderName();
-                log.info("[GoldNews] Fetched {} raw articles from fallback provider", items.size());
+        Mono<ProviderNews> fallback = Mono.defer(() -> {
+            if (!gNewsClient.isConfigured()) {
+                return Mono.empty();
             }
-        }
+            log.info("[GoldNews] Primary provider failed or empty, trying fallback");
+            return gNewsClient.fetchGoldNews()
+                    .filter(items -> !items.isEmpty())
+                    .doOnNext(items -> log.info("[GoldNews] Fetched {} raw articles from fallback provider", items.size()))
+                    .map(items -> new ProviderNews(gNewsClient.getProviderName(), items));
+        });
+
+        return primary
+                .switchIfEmpty(fallback)
+                .defaultIfEmpty(new ProviderNews(null, Collections.emptyList()))
+                .map(news -> buildResponse(news.provider(), news.items()));
+    }
 
+    private GoldNewsResponse buildResponse(String provider, List<GoldNewsItem> items) {
         // STRICT RELEVANCE FILTERING - Remove unrelated articles
         List<GoldNewsItem> filteredItems = items.stream()
                 .filter(this::isRelevantToGold)
@@ -129,6 +136,9 @@ public class GoldNewsService {
                 .build();
     }
 
+    private record ProviderNews(String provider, List<GoldNewsItem> items) {
+    }
+
     /**
      * Validates that an article is relevant to gold and macro factors.
      * Returns false if article should be excluded.
@@ -3,9 +3,12 @@ package com.goldlens.service;
 import com.goldlens.domain.GoldPriceHistory;
 import com.goldlens.repository.GoldPriceHistoryRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class GoldPriceHistoryService {
@@ -24,6 +27,23 @@ public class GoldPriceHistoryService {
         return repository.save(history);
     }
 
+    /**
+     * Stores the latest known price for the given day, overwriting an earlier price for that day.
+     * Keeps the persisted last-known-price tier in step with live fetches.
+     */
+    @Transactional
+    public GoldPriceHistory recordLatestPrice(LocalDate date, BigDecimal price, String source) {
+        GoldPriceHistory history = repository.findByDate(date)
+                .orElseGet(() -> GoldPriceHistory.builder().date(date).build());
+        history.setPrice(price);
+        history.setSource(source);
+        return repository.save(history);
+    }
+
+    public Optional<GoldPriceHistory> findLatest() {
+        return repository.findTopByOrderByDateDesc();
+    }
+
     public List<GoldPriceHistory> findHistorySince(LocalDate sinceDate) {
         return repository.findByDateGreaterThanEqualOrderByDateAsc(sinceDate);
     }
@@ -1,15 +1,36 @@
 package com.goldlens.service;
 
 import com.goldlens.client.GoldPricezClient;
+import com.goldlens.client.RequestPriority;
 import com.goldlens.config.CacheConfig;
+import com.goldlens.domain.GoldPriceHistory;
+import com.goldlens.dto.EncodedGoldPrice;
 import com.goldlens.dto.GoldPriceSnapshot;
+import com.goldlens.dto.PriceTier;
 import com.goldlens.exception.GoldApiUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class GoldPriceService {
@@ -17,66 +38,372 @@ public class GoldPriceService {
     private static final Logger log = LoggerFactory.getLogger(GoldPriceService.class);
     private static final String CACHE_KEY = CacheConfig.GOLD_PRICE_CACHE_KEY;
 
+    private static final String REQUESTS_METRIC = "goldlens.gold_price.requests";
+    private static final String REFRESH_METRIC = "goldlens.gold_price.refreshes";
+
+    private static final String CURRENCY = "USD";
+    private static final String UNIT = "oz";
+
     private final GoldPricezClient goldPricezClient;
+    private final GoldPriceHistoryService goldPriceHistoryService;
+    private final GoldPriceTickBuffer goldPriceTickBuffer;
     private final CacheManager cacheManager;
+    private final boolean coalescingEnabled;
+    private final long softTtlNanos;
+    private final long hardTtlNanos;
+    private final long minRefreshIntervalNanos;
+
+    // Single-flight slot: the first caller to miss the cache owns the upstream fetch,
+    // everyone arriving while it is running waits on the same future.
+    private final AtomicReference<CompletableFuture<EncodedGoldPrice>> inFlight = new AtomicReference<>();
+
+    // In-memory copy of the newest gold_price_history row, served when GoldPricez and the cache both fail
+    private final AtomicReference<EncodedGoldPrice> lastPersisted = new AtomicReference<>();
 
-    public GoldPriceService(GoldPricezClient goldPricezClient, CacheManager cacheManager) {
+    // Start time of the last background refresh; spaces refreshes out to stay inside the GoldPricez quota
+    private final AtomicLong lastRefreshStartedNanos;
+    // Write-through of fresh prices to gold_price_history, kept off the request and event-loop threads
+    private final ExecutorService writeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "gold-price-write");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter cacheServed;
+    private final Counter staleServed;
+    private final Counter expiredServed;
+    private final Counter upstreamServed;
+    private final Counter coalescedServed;
+    private final Counter fallbackServed;
+    private final Counter databaseServed;
+    private final Counter failed;
+    private final Counter refreshSucceeded;
+    private final Counter refreshFailed;
+
+    public GoldPriceService(GoldPricezClient goldPricezClient,
+                            GoldPriceHistoryService goldPriceHistoryService,
+                            GoldPriceTickBuffer goldPriceTickBuffer,
+                            CacheManager cacheManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${goldpricez.coalescing.enabled:true}") boolean coalescingEnabled,
+                            @Value("${goldpricez.cache.soft-ttl:PT2M}") Duration softTtl,
+                            @Value("${goldpricez.cache.hard-ttl:PT10M}") Duration hardTtl,
+                            @Value("${goldpricez.cache.min-refresh-interval:PT2M}") Duration minRefreshInterval) {
         this.goldPricezClient = goldPricezClient;
+        this.goldPriceHistoryService = goldPriceHistoryService;
+        this.goldPriceTickBuffer = goldPriceTickBuffer;
         this.cacheManager = cacheManager;
+        this.coalescingEnabled = coalescingEnabled;
+        this.softTtlNanos = softTtl.toNanos();
+        this.hardTtlNanos = hardTtl.toNanos();
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+        this.lastRefreshStartedNanos = new AtomicLong(System.nanoTime() - minRefreshIntervalNanos);
+        this.cacheServed = requestCounter(meterRegistry, "cache");
+        this.staleServed = requestCounter(meterRegistry, "stale");
+        this.expiredServed = requestCounter(meterRegistry, "expired");
+        this.upstreamServed = requestCounter(meterRegistry, "upstream");
+        this.coalescedServed = requestCounter(meterRegistry, "coalesced");
+        this.fallbackServed = requestCounter(meterRegistry, "fallback");
+        this.databaseServed = requestCounter(meterRegistry, "database");
+        this.failed = requestCounter(meterRegistry, "error");
+        this.refreshSucceeded = refreshCounter(meterRegistry, "success");
+        this.refreshFailed = refreshCounter(meterRegistry, "failure");
     }
 
     /**
-     * Returns the latest gold price with caching (45 sec TTL).
-     * On API failure, returns cached value if available.
+     * Returns the latest price using stale-while-revalidate:
+     * - younger than the soft TTL: served from cache
+     * - past the soft TTL: served from cache while a background refresh runs
+     * - past the hard TTL: served with isLive=false while a background refresh runs
+     * Only a cold cache makes the caller wait for GoldPricez; concurrent cold callers share one fetch.
+     * If that fetch fails the read falls through the tiers: memory cache, last persisted price, error.
+     * The tier that answered is reported in the snapshot's tier field.
+     *
+     * Non-blocking: cache hits complete immediately, upstream fetches run on the WebClient event loop
+     * and only a cold DATABASE-tier lookup is moved to boundedElastic.
+     *
+     * Every tier hands out a pre-encoded EncodedGoldPrice, built once per fetched or persisted price.
      */
-    @Cacheable(value = CacheConfig.GOLD_PRICE_CACHE, key = "T(com.goldlens.config.CacheConfig).GOLD_PRICE_CACHE_KEY")
-    public GoldPriceSnapshot getLatestPrice() {
-        log.debug("Cache miss - fetching latest gold price from GoldPricez");
-        return fetchLivePrice();
+    public Mono<EncodedGoldPrice> getLatestPriceWithFallback() {
+        if (!coalescingEnabled) {
+            return fetchUncoalesced();
+        }
+
+        CachedGoldPrice cached = getCachedEntry();
+        if (cached != null) {
+            long age = cached.ageNanos();
+            if (age < softTtlNanos) {
+                cacheServed.increment();
+                return Mono.just(cached.cachedSnapshot());
+            }
+
+            triggerBackgroundRefresh();
+            if (age < hardTtlNanos) {
+                staleServed.increment();
+                return Mono.just(cached.cachedSnapshot());
+            }
+            expiredServed.increment();
+            return Mono.just(cached.expiredSnapshot());
+        }
+
+        return fetchSingleFlight(true)
+                .onErrorResume(GoldApiUnavailableException.class, this::fallback);
     }
 
     /**
-     * Fetches live price, falls back to cache on failure.
+     * Loads the newest persisted price into memory so the DATABASE tier can answer
+     * straight after a restart, even if GoldPricez is down at that moment.
      */
-    public GoldPriceSnapshot getLatestPriceWithFallback() {
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmPersistedTier() {
         try {
-            GoldPriceSnapshot snapshot = fetchLivePrice();
-            updateCache(snapshot);
-            return snapshot;
-        } catch (GoldApiUnavailableException e) {
-            log.warn("[requestId={}] API failed, attempting cache fallback", e.getRequestId());
-            GoldPriceSnapshot cached = getCachedPrice();
-            if (cached != null) {
-                log.info("Serving cached gold price due to API failure");
-                cached.setLive(false);
-                return cached;
+            goldPriceHistoryService.findLatest().ifPresent(history -> {
+                lastPersisted.compareAndSet(null, EncodedGoldPrice.of(toSnapshot(history)));
+                log.info("Warmed last-known gold price from DB: {} on {}", history.getPrice(), history.getDate());
+            });
+        } catch (Exception e) {
+            log.warn("Could not warm last-known gold price from DB: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Legacy behaviour: every call goes upstream, cache is only consulted on failure.
+     */
+    private Mono<EncodedGoldPrice> fetchUncoalesced() {
+        return fetchLivePrice()
+                .map(this::onFetched)
+                .doOnNext(price -> upstreamServed.increment())
+                .onErrorResume(GoldApiUnavailableException.class, this::fallback);
+    }
+
+    private void triggerBackgroundRefresh() {
+        long now = System.nanoTime();
+        long last = lastRefreshStartedNanos.get();
+        if (now - last < minRefreshIntervalNanos || !lastRefreshStartedNanos.compareAndSet(last, now)) {
+            return;
+        }
+
+        // Counted under the refreshes metric only: the request that triggered it was already counted
+        fetchSingleFlight(false).subscribe(
+                snapshot -> refreshSucceeded.increment(),
+                error -> {
+                    refreshFailed.increment();
+                    if (error instanceof GoldApiUnavailableException e) {
+                        log.warn("[requestId={}] [errorType={}] Background gold price refresh failed, keeping cached value",
+                                e.getRequestId(), e.getErrorType());
+                    } else {
+                        log.warn("Background gold price refresh failed, keeping cached value: {}", error.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * The first caller to find the slot empty starts the upstream fetch; it runs to completion
+     * independently of that caller, so a cancelled request does not fail the callers sharing it.
+     *
+     * @param countRequest whether to count the outcome under the requests metric (false for
+     *                     background refreshes); counted when the price is served, so a failed
+     *                     fetch is only counted by the fallback that answers instead
+     */
+    private Mono<EncodedGoldPrice> fetchSingleFlight(boolean countRequest) {
+        return Mono.defer(() -> {
+            CompletableFuture<EncodedGoldPrice> promise = new CompletableFuture<>();
+            CompletableFuture<EncodedGoldPrice> existing = inFlight.compareAndExchange(null, promise);
+
+            if (existing != null) {
+                return await(existing).doOnNext(price -> count(countRequest, coalescedServed));
+            }
+
+            // A fetch that finished between our cache check and winning the slot already refreshed the cache
+            CachedGoldPrice cached = getCachedEntry();
+            if (cached != null && cached.ageNanos() < softTtlNanos) {
+                count(countRequest, cacheServed);
+                promise.complete(cached.cachedSnapshot());
+                inFlight.compareAndSet(promise, null);
+                return Mono.just(cached.cachedSnapshot());
             }
-            throw e;
+
+            fetchLivePrice()
+                    .map(this::onFetched)
+                    .doFinally(signal -> inFlight.compareAndSet(promise, null))
+                    .subscribe(
+                            promise::complete,
+                            promise::completeExceptionally,
+                            () -> promise.completeExceptionally(new IllegalStateException("GoldPricez returned no price")));
+            return await(promise).doOnNext(price -> count(countRequest, upstreamServed));
+        });
+    }
+
+    private static void count(boolean countRequest, Counter counter) {
+        if (countRequest) {
+            counter.increment();
+        }
+    }
+
+    private Mono<EncodedGoldPrice> await(CompletableFuture<EncodedGoldPrice> future) {
+        // suppressCancel: one caller going away must not cancel the shared future
+        return Mono.fromFuture(future, true)
+                .onErrorMap(e -> !(e instanceof GoldApiUnavailableException), e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof GoldApiUnavailableException apiException) {
+                        return apiException;
+                    }
+                    return new GoldApiUnavailableException(
+                            "Shared GoldPricez fetch failed: " + cause.getMessage(),
+                            502,
+                            "UNEXPECTED_ERROR",
+                            "single-flight",
+                            cause
+                    );
+                });
+    }
+
+    private Mono<EncodedGoldPrice> fallback(GoldApiUnavailableException e) {
+        if (e.isCircuitOpen()) {
+            // Expected while GoldPricez is down: answer from cache/DB without logging every request
+            log.debug("[requestId={}] GoldPricez circuit open, serving fallback", e.getRequestId());
+        } else {
+            log.warn("[requestId={}] API failed, attempting cache fallback", e.getRequestId());
         }
+        CachedGoldPrice cached = getCachedEntry();
+        if (cached != null) {
+            log.info("Serving cached gold price due to API failure");
+            fallbackServed.increment();
+            return Mono.just(cached.expiredSnapshot());
+        }
+
+        EncodedGoldPrice mirrored = lastPersisted.get();
+        Mono<EncodedGoldPrice> persisted = mirrored != null
+                ? Mono.just(mirrored)
+                : Mono.fromCallable(this::getPersistedPrice).subscribeOn(Schedulers.boundedElastic());
+
+        return persisted
+                .doOnNext(persistedPrice -> {
+                    log.info("[requestId={}] Serving last persisted gold price from {} due to API failure",
+                            e.getRequestId(), persistedPrice.snapshot().getAsOf());
+                    databaseServed.increment();
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    failed.increment();
+                    return Mono.error(e);
+                }));
     }
 
-    private GoldPriceSnapshot fetchLivePrice() {
-        GoldPriceSnapshot snapshot = goldPricezClient.fetchLatestGoldPrice();
-        snapshot.setLive(true);
-        snapshot.setSupportsHistory(false);
-        return snapshot;
+    private EncodedGoldPrice getPersistedPrice() {
+        EncodedGoldPrice persisted = lastPersisted.get();
+        if (persisted != null) {
+            return persisted;
+        }
+        try {
+            return goldPriceHistoryService.findLatest()
+                    .map(history -> {
+                        EncodedGoldPrice encoded = EncodedGoldPrice.of(toSnapshot(history));
+                        lastPersisted.compareAndSet(null, encoded);
+                        return encoded;
+                    })
+                    .orElse(null);
+        } catch (Exception ex) {
+            log.warn("Last-known gold price lookup failed: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Queues the fresh price as an intraday tick and writes it through to gold_price_history
+     * off the request thread, then updates the in-memory copy of the DATABASE tier.
+     */
+    private void persistLatest(GoldPriceSnapshot snapshot) {
+        goldPriceTickBuffer.record(snapshot);
+
+        LocalDate today = LocalDate.now();
+        try {
+            writeExecutor.execute(() -> {
+                try {
+                    GoldPriceHistory saved = goldPriceHistoryService.recordLatestPrice(
+                            today, snapshot.getPrice(), snapshot.getSource());
+                    lastPersisted.set(EncodedGoldPrice.of(toSnapshot(saved)));
+                } catch (Exception e) {
+                    log.warn("Failed to persist latest gold price for {}: {}", today, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Gold price write-through rejected: {}", e.getMessage());
+        }
+    }
+
+    private GoldPriceSnapshot toSnapshot(GoldPriceHistory history) {
+        return GoldPriceSnapshot.builder()
+                .price(history.getPrice())
+                .currency(CURRENCY)
+                .unit(UNIT)
+                .asOf(history.getDate().atStartOfDay())
+                .source(history.getSource())
+                .isLive(false)
+                .supportsHistory(false)
+                .tier(PriceTier.DATABASE)
+                .build();
+    }
+
+    // The client builds LIVE snapshots (isLive=true, supportsHistory=false); they are never mutated afterwards
+    private Mono<GoldPriceSnapshot> fetchLivePrice() {
+        return goldPricezClient.latestGoldPrice(RequestPriority.INTERACTIVE);
+    }
+
+    private EncodedGoldPrice onFetched(GoldPriceSnapshot snapshot) {
+        updateCache(snapshot);
+        persistLatest(snapshot);
+        return EncodedGoldPrice.of(snapshot);
     }
 
     private void updateCache(GoldPriceSnapshot snapshot) {
         Cache cache = cacheManager.getCache(CacheConfig.GOLD_PRICE_CACHE);
         if (cache != null) {
-            cache.put(CACHE_KEY, snapshot);
+            cache.put(CACHE_KEY, CachedGoldPrice.of(snapshot));
         }
     }
 
-    private GoldPriceSnapshot getCachedPrice() {
+    private CachedGoldPrice getCachedEntry() {
         Cache cache = cacheManager.getCache(CacheConfig.GOLD_PRICE_CACHE);
         if (cache != null) {
-            Cache.ValueWrapper wrapper = cache.get(CACHE_KEY);
-            if (wrapper != null) {
-                return (GoldPriceSnapshot) wrapper.get();
-            }
+            return cache.get(CACHE_KEY, CachedGoldPrice.class);
         }
         return null;
     }
+
+    @PreDestroy
+    void shutdown() {
+        writeExecutor.shutdownNow();
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(REQUESTS_METRIC)
+                .description("Gold price requests by how they were served")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(REFRESH_METRIC)
+                .description("Background gold price refreshes by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cache entry: pre-encoded CACHE-tier copies of the fetched snapshot (live, and isLive=false for
+     * use past the hard TTL) plus the local fetch time used for TTL checks (asOf is the provider's
+     * timestamp, not ours).
+     */
+    private record CachedGoldPrice(EncodedGoldPrice cachedSnapshot, EncodedGoldPrice expiredSnapshot, long fetchedAtNanos) {
+
+        static CachedGoldPrice of(GoldPriceSnapshot snapshot) {
+            GoldPriceSnapshot cached = snapshot.toBuilder().tier(PriceTier.CACHE).build();
+            GoldPriceSnapshot expired = cached.toBuilder().isLive(false).build();
+            return new CachedGoldPrice(EncodedGoldPrice.of(cached), EncodedGoldPrice.of(expired), System.nanoTime());
+        }
+
+        long ageNanos() {
+            return System.nanoTime() - fetchedAtNanos;
+        }
+    }
 }
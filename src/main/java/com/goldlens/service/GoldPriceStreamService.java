@@ -0,0 +1,97 @@
+package com.goldlens.service;
+
+import com.goldlens.dto.EncodedGoldPrice;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans the latest gold price out to streaming subscribers.
+ *
+ * A single loop, started by the first subscriber and stopped after the last one leaves,
+ * reads the price through GoldPriceService (so upstream calls stay under the cache and
+ * GoldPricez budget no matter how many dashboards are open) and emits only when the
+ * encoded representation changes. Each event is built once and shared by all subscribers;
+ * a late subscriber receives the current price immediately.
+ *
+ * Every subscriber gets a bounded buffer that drops the oldest frame when the client
+ * falls behind, so a slow connection never stalls the loop or other subscribers.
+ */
+@Service
+public class GoldPriceStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(GoldPriceStreamService.class);
+
+    private static final String PRICE_EVENT = "price";
+
+    private static final ServerSentEvent<String> HEARTBEAT = ServerSentEvent.<String>builder()
+            .comment("heartbeat")
+            .build();
+
+    private final Flux<ServerSentEvent<String>> prices;
+    private final Flux<ServerSentEvent<String>> heartbeats;
+    private final int bufferSize;
+
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Counter dropped;
+
+    public GoldPriceStreamService(GoldPriceService goldPriceService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${goldlens.stream.poll-interval:PT5S}") Duration pollInterval,
+                                  @Value("${goldlens.stream.heartbeat-interval:PT15S}") Duration heartbeatInterval,
+                                  @Value("${goldlens.stream.idle-grace:PT30S}") Duration idleGrace,
+                                  @Value("${goldlens.stream.buffer-size:16}") int bufferSize) {
+        this.bufferSize = bufferSize;
+
+        this.prices = Flux.interval(Duration.ZERO, pollInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> goldPriceService.getLatestPriceWithFallback()
+                        .onErrorResume(e -> {
+                            log.debug("[stream] No gold price available for subscribers: {}", e.getMessage());
+                            return Mono.empty();
+                        }), 1)
+                .distinctUntilChanged(EncodedGoldPrice::etag)
+                .map(GoldPriceStreamService::toEvent)
+                .replay(1)
+                .refCount(1, idleGrace);
+
+        this.heartbeats = Flux.interval(heartbeatInterval, heartbeatInterval)
+                .onBackpressureDrop()
+                .map(tick -> HEARTBEAT)
+                .share();
+
+        this.dropped = Counter.builder("goldlens.gold_price.stream.dropped")
+                .description("Price stream frames dropped for slow subscribers")
+                .register(meterRegistry);
+        meterRegistry.gauge("goldlens.gold_price.stream.subscribers", subscribers);
+    }
+
+    /**
+     * Price events (event "price", id = ETag, data = snapshot JSON) interleaved with heartbeat
+     * comments, buffered per subscriber with drop-oldest overflow.
+     */
+    public Flux<ServerSentEvent<String>> subscribe() {
+        return Flux.merge(prices, heartbeats)
+                .onBackpressureBuffer(bufferSize, frame -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST)
+                .doOnSubscribe(subscription -> subscribers.incrementAndGet())
+                .doFinally(signal -> subscribers.decrementAndGet());
+    }
+
+    private static ServerSentEvent<String> toEvent(EncodedGoldPrice price) {
+        return ServerSentEvent.builder(new String(price.json(), StandardCharsets.UTF_8))
+                .id(price.etag())
+                .event(PRICE_EVENT)
+                .build();
+    }
+}
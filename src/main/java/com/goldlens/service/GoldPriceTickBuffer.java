@@ -0,0 +1,119 @@
+package com.goldlens.service;
+
+import com.goldlens.domain.GoldPriceTick;
+import com.goldlens.dto.GoldPriceSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Collects gold price ticks from every successful fetch and writes them in batches,
+ * so the request path never waits on the database.
+ */
+@Component
+public class GoldPriceTickBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(GoldPriceTickBuffer.class);
+
+    private final GoldPriceTickService goldPriceTickService;
+    private final BlockingQueue<GoldPriceTick> pending;
+    private final int batchSize;
+
+    // Last batch that failed to write; retried before anything newer
+    private final List<GoldPriceTick> retained = new ArrayList<>();
+
+    private final Counter dropped;
+    private final Counter flushFailures;
+
+    public GoldPriceTickBuffer(GoldPriceTickService goldPriceTickService,
+                               MeterRegistry meterRegistry,
+                               @Value("${goldlens.ticks.buffer-capacity:10000}") int bufferCapacity,
+                               @Value("${goldlens.ticks.batch-size:500}") int batchSize) {
+        this.goldPriceTickService = goldPriceTickService;
+        this.pending = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.dropped = Counter.builder("goldlens.gold_price.ticks.dropped")
+                .description("Ticks discarded because the write buffer was full or could not be written at shutdown")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("goldlens.gold_price.ticks.flush_failures")
+                .description("Tick batches that failed to write and were kept for retry")
+                .register(meterRegistry);
+        meterRegistry.gauge("goldlens.gold_price.ticks.pending", pending, BlockingQueue::size);
+    }
+
+    /**
+     * Queues a tick for the next flush. Never blocks; drops the tick if the buffer is full.
+     */
+    public void record(GoldPriceSnapshot snapshot) {
+        if (snapshot == null || snapshot.getPrice() == null || snapshot.getSource() == null) {
+            return;
+        }
+        GoldPriceTick tick = GoldPriceTick.builder()
+                .observedAt(snapshot.getAsOf() != null ? snapshot.getAsOf() : LocalDateTime.now())
+                .price(snapshot.getPrice())
+                .source(snapshot.getSource())
+                .build();
+        if (!pending.offer(tick)) {
+            dropped.increment();
+            log.warn("Gold price tick buffer full — dropping tick at {}", tick.getObservedAt());
+        }
+    }
+
+    /**
+     * Writes queued ticks in batches. A batch that fails to write is kept and retried first on
+     * the next flush, so a transient database error delays ticks rather than losing them.
+     */
+    @Scheduled(fixedDelayString = "${goldlens.ticks.flush-interval:PT30S}")
+    public synchronized void flush() {
+        if (!retained.isEmpty() && !write(retained)) {
+            return;
+        }
+        retained.clear();
+
+        List<GoldPriceTick> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            if (!write(batch)) {
+                retained.addAll(batch);
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        flush();
+        int lost = retained.size() + pending.size();
+        if (lost > 0) {
+            dropped.increment(lost);
+            log.error("Shutting down with {} unwritten gold price ticks ({} in a failed batch) — they are lost",
+                    lost, retained.size());
+        }
+    }
+
+    private boolean write(List<GoldPriceTick> batch) {
+        try {
+            int inserted = goldPriceTickService.appendTicks(batch);
+            log.debug("Flushed {} gold price ticks", inserted);
+            return true;
+        } catch (Exception e) {
+            flushFailures.increment();
+            // The rolled-back insert may have assigned ids; clear them so the retry persists again
+            batch.forEach(tick -> tick.setId(null));
+            log.error("Failed to flush {} gold price ticks, keeping them for the next flush: {}",
+                    batch.size(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.goldlens.service;
+
+import com.goldlens.domain.GoldPriceDailyBar;
+import com.goldlens.domain.GoldPriceTick;
+import com.goldlens.repository.GoldPriceDailyBarRepository;
+import com.goldlens.repository.GoldPriceTickRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Persists intraday ticks and keeps the daily OHLC bars in step with them.
+ */
+@Service
+public class GoldPriceTickService {
+
+    private static final Logger log = LoggerFactory.getLogger(GoldPriceTickService.class);
+
+    private final GoldPriceTickRepository tickRepository;
+    private final GoldPriceDailyBarRepository barRepository;
+
+    public GoldPriceTickService(GoldPriceTickRepository tickRepository, GoldPriceDailyBarRepository barRepository) {
+        this.tickRepository = tickRepository;
+        this.barRepository = barRepository;
+    }
+
+    /**
+     * Appends a batch of ticks and rolls them into their daily bars.
+     * Ticks already stored for the same (observedAt, source) are dropped, so repeated
+     * provider timestamps (cached upstream responses) do not double-count.
+     *
+     * @return number of ticks inserted
+     */
+    @Transactional
+    public int appendTicks(List<GoldPriceTick> ticks) {
+        List<GoldPriceTick> fresh = dropDuplicates(ticks);
+        if (fresh.isEmpty()) {
+            return 0;
+        }
+
+        tickRepository.saveAll(fresh);
+        rollUp(fresh);
+
+        log.debug("Appended {} gold price ticks ({} duplicates dropped)", fresh.size(), ticks.size() - fresh.size());
+        return fresh.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<GoldPriceDailyBar> findBarsSince(LocalDate sinceDate) {
+        return barRepository.findByDateGreaterThanEqualOrderByDateAsc(sinceDate);
+    }
+
+    private List<GoldPriceTick> dropDuplicates(List<GoldPriceTick> ticks) {
+        Map<String, List<GoldPriceTick>> bySource = ticks.stream()
+                .collect(Collectors.groupingBy(GoldPriceTick::getSource));
+
+        List<GoldPriceTick> fresh = new ArrayList<>(ticks.size());
+        for (Map.Entry<String, List<GoldPriceTick>> entry : bySource.entrySet()) {
+            List<GoldPriceTick> sourceTicks = entry.getValue();
+            LocalDateTime from = sourceTicks.stream().map(GoldPriceTick::getObservedAt).min(Comparator.naturalOrder()).orElseThrow();
+            LocalDateTime to = sourceTicks.stream().map(GoldPriceTick::getObservedAt).max(Comparator.naturalOrder()).orElseThrow();
+
+            // One range query per source instead of an exists check per tick
+            Set<LocalDateTime> seen = new HashSet<>(tickRepository.findObservedAtBySourceBetween(entry.getKey(), from, to));
+            for (GoldPriceTick tick : sourceTicks) {
+                if (seen.add(tick.getObservedAt())) {
+                    fresh.add(tick);
+                }
+            }
+        }
+        return fresh;
+    }
+
+    private void rollUp(List<GoldPriceTick> ticks) {
+        Map<LocalDate, List<GoldPriceTick>> byDate = ticks.stream()
+                .collect(Collectors.groupingBy(t -> t.getObservedAt().toLocalDate(), TreeMap::new, Collectors.toList()));
+
+        Map<LocalDate, GoldPriceDailyBar> bars = barRepository.findByDateIn(byDate.keySet()).stream()
+                .collect(Collectors.toMap(GoldPriceDailyBar::getDate, Function.identity()));
+
+        for (Map.Entry<LocalDate, List<GoldPriceTick>> entry : byDate.entrySet()) {
+            GoldPriceDailyBar bar = bars.get(entry.getKey());
+            for (GoldPriceTick tick : entry.getValue()) {
+                if (bar == null) {
+                    bar = GoldPriceDailyBar.open(tick);
+                    bars.put(entry.getKey(), bar);
+                } else {
+                    bar.apply(tick);
+                }
+            }
+        }
+        barRepository.saveAll(bars.values());
+    }
+}
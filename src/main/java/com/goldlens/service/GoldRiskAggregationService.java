@@ -1,8 +1,7 @@
 package com.goldlens.service;
 
+import com.goldlens.config.RiskRuleProperties;
 import com.goldlens.domain.GoldRiskSnapshot;
-import com.goldlens.domain.Indicator;
-import com.goldlens.domain.RiskLevel;
 import com.goldlens.domain.Signal;
 import com.goldlens.domain.SignalType;
 import com.goldlens.repository.GoldRiskSnapshotRepository;
@@ -11,44 +10,65 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Aggregates the latest signal of each configured input indicator into a gold risk level.
+ * The rules (goldlens.risk) are compiled once into a RiskDecisionTable; the latest signals of
+ * all inputs are read with a single query.
+ */
 @Service
 public class GoldRiskAggregationService {
 
     private static final Logger log = LoggerFactory.getLogger(GoldRiskAggregationService.class);
 
-    private static final String REAL_YIELD_CODE = "US_10Y_REAL_YIELD";
-    private static final String DXY_CODE = "US_DOLLAR_INDEX";
-
     private final GoldRiskSnapshotRepository goldRiskSnapshotRepository;
-    private final IndicatorService indicatorService;
     private final SignalEngineService signalEngineService;
+    private final RiskDecisionTable decisionTable;
 
     public GoldRiskAggregationService(GoldRiskSnapshotRepository goldRiskSnapshotRepository,
-                                      IndicatorService indicatorService,
-                                      SignalEngineService signalEngineService) {
+                                      SignalEngineService signalEngineService,
+                                      RiskRuleProperties riskRuleProperties) {
         this.goldRiskSnapshotRepository = goldRiskSnapshotRepository;
-        this.indicatorService = indicatorService;
         this.signalEngineService = signalEngineService;
+        this.decisionTable = RiskDecisionTable.compile(riskRuleProperties);
+        log.info("[risk] Compiled {} rules over inputs {}", riskRuleProperties.getRules().size(), decisionTable.inputs());
+    }
+
+    /**
+     * Indicators whose signals feed the risk snapshot.
+     */
+    public List<String> getInputIndicators() {
+        return decisionTable.inputs();
+    }
+
+    RiskDecisionTable getDecisionTable() {
+        return decisionTable;
     }
 
     /**
      * Computes and stores the aggregated gold risk snapshot for the given date.
      * Idempotent: skips if snapshot already exists for that date.
+     *
+     * @return true if a snapshot was inserted
      */
-    public void computeAndStoreRiskSnapshot(LocalDate asOfDate) {
+    public boolean computeAndStoreRiskSnapshot(LocalDate asOfDate) {
         log.info("Computing gold risk snapshot for date {}", asOfDate);
 
         if (goldRiskSnapshotRepository.existsByAsOfDate(asOfDate)) {
             log.info("Gold risk snapshot already exists for date {} – skipping", asOfDate);
-            return;
+            return false;
         }
 
-        Optional<Signal> realYieldSignal = getLatestSignal(REAL_YIELD_CODE);
-        Optional<Signal> dxySignal = getLatestSignal(DXY_CODE);
+        Map<String, SignalType> signals = new HashMap<>();
+        for (Signal signal : signalEngineService.findLatestByIndicatorCodes(decisionTable.inputs())) {
+            signals.put(signal.getIndicator().getCode(), signal.getSignalType());
+        }
 
-        RiskResult result = aggregateRisk(realYieldSignal, dxySignal);
+        RiskDecisionTable.RiskResult result = decisionTable.evaluate(signals);
         log.info("Gold risk computed: level={}, reason={}", result.level(), result.reason());
 
         GoldRiskSnapshot snapshot = GoldRiskSnapshot.builder()
@@ -59,88 +79,14 @@ public class GoldRiskAggregationService {
 
         goldRiskSnapshotRepository.save(snapshot);
         log.info("Inserted gold risk snapshot for date {}", asOfDate);
-    }
-
-    private Optional<Signal> getLatestSignal(String indicatorCode) {
-        return indicatorService.findByCode(indicatorCode)
-                .flatMap(signalEngineService::findLatestByIndicator);
-    }
-
-    /**
-     * Aggregates risk from multiple signals using deterministic rules.
-     */
-    private RiskResult aggregateRisk(Optional<Signal> realYieldSignal, Optional<Signal> dxySignal) {
-        // If any signal is missing, return MEDIUM with explanation
-        if (realYieldSignal.isEmpty() || dxySignal.isEmpty()) {
-            return new RiskResult(
-                    RiskLevel.MEDIUM,
-                    "Incomplete data – not all indicator signals are available"
-            );
-        }
-
-        SignalType yieldType = realYieldSignal.get().getSignalType();
-        SignalType dxyType = dxySignal.get().getSignalType();
-
-        // Both RED → HIGH
-        if (yieldType == SignalType.RED && dxyType == SignalType.RED) {
-            return new RiskResult(
-                    RiskLevel.HIGH,
-                    "Rising real yields and a strengthening dollar increase downside risk for gold"
-            );
-        }
-
-        // Both GREEN → LOW
-        if (yieldType == SignalType.GREEN && dxyType == SignalType.GREEN) {
-            return new RiskResult(
-                    RiskLevel.LOW,
-                    "Easing real yields and a weakening dollar are supportive for gold"
-            );
-        }
-
-        // One RED + one YELLOW → MEDIUM
-        if ((yieldType == SignalType.RED && dxyType == SignalType.YELLOW) ||
-            (yieldType == SignalType.YELLOW && dxyType == SignalType.RED)) {
-            return new RiskResult(
-                    RiskLevel.MEDIUM,
-                    buildMixedReason(yieldType, dxyType)
-            );
-        }
-
-        // One RED + one GREEN → MEDIUM
-        if ((yieldType == SignalType.RED && dxyType == SignalType.GREEN) ||
-            (yieldType == SignalType.GREEN && dxyType == SignalType.RED)) {
-            return new RiskResult(
-                    RiskLevel.MEDIUM,
-                    "Mixed signals – one indicator is bearish while the other is supportive for gold"
-            );
-        }
-
-        // Both YELLOW → MEDIUM
-        if (yieldType == SignalType.YELLOW && dxyType == SignalType.YELLOW) {
-            return new RiskResult(
-                    RiskLevel.MEDIUM,
-                    "Both indicators show mixed trends – uncertain outlook for gold"
-            );
-        }
-
-        // One GREEN + one YELLOW → MEDIUM (leaning positive but not confirmed)
-        return new RiskResult(
-                RiskLevel.MEDIUM,
-                "Partially supportive conditions – one indicator is positive while the other is mixed"
-        );
-    }
-
-    private String buildMixedReason(SignalType yieldType, SignalType dxyType) {
-        if (yieldType == SignalType.RED) {
-            return "Rising real yields are negative for gold, while dollar trends are mixed";
-        } else {
-            return "A strengthening dollar pressures gold, while real yield trends are mixed";
-        }
+        return true;
     }
 
     public Optional<GoldRiskSnapshot> findLatest() {
         return goldRiskSnapshotRepository.findTopByOrderByAsOfDateDesc();
     }
 
-    private record RiskResult(RiskLevel level, String reason) {}
+    public List<GoldRiskSnapshot> findHistory(LocalDate from, LocalDate to) {
+        return goldRiskSnapshotRepository.findByAsOfDateBetweenOrderByAsOfDateAsc(from, to);
+    }
 }
@@ -0,0 +1,59 @@
+package com.goldlens.service;
+
+import com.goldlens.event.SignalComputed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Risk stage of the ingestion → signal → risk pipeline: computes the day's gold risk snapshot
+ * as soon as every input indicator's signal has settled for that day, instead of at a fixed
+ * cron offset. GoldRiskScheduler remains as a later safety net for days where an input never
+ * arrives (e.g. FRED down for one series).
+ */
+@Component
+public class GoldRiskPipelineListener {
+
+    private static final Logger log = LoggerFactory.getLogger(GoldRiskPipelineListener.class);
+
+    private final GoldRiskAggregationService goldRiskAggregationService;
+
+    // Settled input indicators per run date
+    private final Map<LocalDate, Set<String>> settled = new ConcurrentHashMap<>();
+
+    public GoldRiskPipelineListener(GoldRiskAggregationService goldRiskAggregationService) {
+        this.goldRiskAggregationService = goldRiskAggregationService;
+    }
+
+    @EventListener
+    public void onSignalComputed(SignalComputed event) {
+        List<String> required = goldRiskAggregationService.getInputIndicators();
+        if (!required.contains(event.indicatorCode())) {
+            return;
+        }
+
+        LocalDate runDate = event.runDate();
+        settled.keySet().removeIf(date -> date.isBefore(runDate));
+        Set<String> inputs = settled.computeIfAbsent(runDate, date -> ConcurrentHashMap.newKeySet());
+        inputs.add(event.indicatorCode());
+
+        if (!inputs.containsAll(required)) {
+            log.info("[pipeline] Risk for {} waiting on inputs: {}/{} settled",
+                    runDate, inputs.size(), required.size());
+            return;
+        }
+
+        // Only the event that completes the set triggers aggregation
+        if (settled.remove(runDate, inputs)) {
+            log.info("[pipeline] All risk inputs settled for {} — aggregating", runDate);
+            goldRiskAggregationService.computeAndStoreRiskSnapshot(runDate);
+        }
+    }
+}
@@ -1,157 +1,137 @@
 package com.goldlens.service;
 
+import com.goldlens.backfill.BackgroundJob;
+import com.goldlens.backfill.BootstrapJobManager;
+import com.goldlens.config.FredSeriesProperties;
 import com.goldlens.domain.Indicator;
-import com.goldlens.domain.IndicatorValue;
-import com.goldlens.scheduler.FredClient;
-import com.goldlens.scheduler.GoldPriceScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 @Service
 public class HistoricalBackfillService {
 
     private static final Logger log = LoggerFactory.getLogger(HistoricalBackfillService.class);
 
-    private static final int REQUIRED_HISTORY = 30;
-    private static final int FETCH_LIMIT = 100;
-    private static final int LOOKBACK_DAYS = 90;
+    public static final String JOB_NAME = "fred-history-backfill";
 
-    private static final String SOURCE = "FRED";
-
-    // Indicator code to FRED series ID mapping
-    private static final Map<String, String> INDICATOR_SERIES_MAP = Map.of(
-            "US_10Y_REAL_YIELD", "DFII10",
-            "US_DOLLAR_INDEX", "DTWEXBGS"
-    );
-
-    // Indicator metadata for auto-creation
-    private static final Map<String, IndicatorMeta> INDICATOR_META = Map.of(
-            "US_10Y_REAL_YIELD", new IndicatorMeta("US 10Y Real Yield", "%"),
-            "US_DOLLAR_INDEX", new IndicatorMeta("US Dollar Index (DXY)", "index")
-    );
-
-    private final FredClient fredClient;
+    private final FredBackfillService fredBackfillService;
+    private final FredSeriesProperties fredSeriesProperties;
     private final IndicatorService indicatorService;
-    private final IndicatorValueService indicatorValueService;
     private final SignalEngineService signalEngineService;
-    private final GoldPriceScheduler goldPriceScheduler;
+    private final SignalReplayService signalReplayService;
+    private final BootstrapJobManager bootstrapJobManager;
 
-    public HistoricalBackfillService(FredClient fredClient,
+    public HistoricalBackfillService(FredBackfillService fredBackfillService,
+                                     FredSeriesProperties fredSeriesProperties,
                                      IndicatorService indicatorService,
-                                     IndicatorValueService indicatorValueService,
                                      SignalEngineService signalEngineService,
-                                     GoldPriceScheduler goldPriceScheduler) {
-        this.fredClient = fredClient;
+                                     SignalReplayService signalReplayService,
+                                     BootstrapJobManager bootstrapJobManager) {
+        this.fredBackfillService = fredBackfillService;
+        this.fredSeriesProperties = fredSeriesProperties;
         this.indicatorService = indicatorService;
-        this.indicatorValueService = indicatorValueService;
         this.signalEngineService = signalEngineService;
-        this.goldPriceScheduler = goldPriceScheduler;
+        this.signalReplayService = signalReplayService;
+        this.bootstrapJobManager = bootstrapJobManager;
     }
 
+    /**
+     * Hands the backfill to a background bootstrap job so readiness does not wait on FRED.
+     * Until it finishes, endpoints serve whatever history is already in the database.
+     * Ordered first so the scheduled-job catch-up can find (and wait for) this job.
+     */
     @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
     public void onApplicationReady() {
-        log.info("Application ready — checking if historical backfill is needed");
-        runBackfillIfNeeded();
+        log.info("Application ready — scheduling historical backfill in the background");
+        bootstrapJobManager.submit(JOB_NAME, this::runBackfillIfNeeded);
     }
 
     /**
-     * Runs backfill for all configured indicators if they lack sufficient history.
+     * Runs the deep FRED backfill for all configured indicators that have not completed it.
      * After backfill, computes signals for all indicators.
      * This method is idempotent and safe to call multiple times.
      */
     public void runBackfillIfNeeded() {
+        runBackfillIfNeeded(null);
+    }
+
+    private void runBackfillIfNeeded(BackgroundJob job) {
+        List<FredSeriesProperties.Series> seriesList = fredSeriesProperties.getSeries();
+        // Steps: one per series, then signal history, latest signals
+        long totalSteps = seriesList.size() + 2L;
+        long step = 0;
+
         // Backfill macro indicators
-        for (String indicatorCode : INDICATOR_SERIES_MAP.keySet()) {
-            backfillIndicatorIfNeeded(indicatorCode);
+        List<Indicator> backfilled = new ArrayList<>();
+        for (FredSeriesProperties.Series series : seriesList) {
+            report(job, step++, totalSteps, "Backfilling " + series.getIndicatorCode());
+            backfillIndicatorIfNeeded(series).ifPresent(backfilled::add);
         }
 
-        // Backfill gold price history
-        goldPriceScheduler.backfillHistory(LOOKBACK_DAYS, FETCH_LIMIT);
+        // Newly loaded history gets its signal history rebuilt
+        report(job, step++, totalSteps, "Replaying signal history");
+        if (!backfilled.isEmpty()) {
+            signalReplayService.replay(backfilled);
+        }
 
         // After backfill, ensure signals are computed for all indicators
+        report(job, step++, totalSteps, "Computing signals");
         computeSignalsForAllIndicators();
+        report(job, step, totalSteps, "Done");
+    }
+
+    private static void report(BackgroundJob job, long step, long totalSteps, String message) {
+        if (job != null) {
+            job.progress(step, totalSteps, message);
+        }
     }
 
+    /**
+     * Refreshes every indicator's signal directly. Deliberately not an IndicatorValuesIngested
+     * event: nothing was ingested for today, and settling the risk inputs here would freeze
+     * today's snapshot on signals from before the day's FRED ingest.
+     */
     private void computeSignalsForAllIndicators() {
         log.info("Computing signals for all indicators after backfill");
-        LocalDate today = LocalDate.now();
 
-        for (String indicatorCode : INDICATOR_SERIES_MAP.keySet()) {
+        for (FredSeriesProperties.Series series : fredSeriesProperties.getSeries()) {
+            String indicatorCode = series.getIndicatorCode();
             indicatorService.findByCode(indicatorCode).ifPresent(indicator -> {
-                log.info("Computing signal for indicator {} on {}", indicatorCode, today);
-                signalEngineService.computeAndStoreSignal(indicator, today);
+                log.info("Computing signal for indicator {}", indicatorCode);
+                signalEngineService.refreshLatestSignal(indicator);
             });
         }
     }
 
-    private void backfillIndicatorIfNeeded(String indicatorCode) {
-        String seriesId = INDICATOR_SERIES_MAP.get(indicatorCode);
-        IndicatorMeta meta = INDICATOR_META.get(indicatorCode);
+    /**
+     * @return the indicator if the backfill wrote any rows
+     */
+    private Optional<Indicator> backfillIndicatorIfNeeded(FredSeriesProperties.Series series) {
+        String indicatorCode = series.getIndicatorCode();
+        String seriesId = series.getSeriesId();
 
-        if (seriesId == null || meta == null) {
-            log.warn("No FRED series mapping found for indicator: {}", indicatorCode);
-            return;
+        if (!series.isValid()) {
+            log.warn("Incomplete FRED series mapping for indicator: {}", indicatorCode);
+            return Optional.empty();
         }
 
         // Ensure indicator exists
-        Indicator indicator = indicatorService.findOrCreate(indicatorCode, meta.name(), meta.unit());
-
-        // Check current history count
-        long currentCount = indicatorValueService.countByIndicator(indicator);
-        log.info("Indicator {} has {} existing data points", indicatorCode, currentCount);
-
-        if (currentCount >= REQUIRED_HISTORY) {
-            log.info("Backfill skipped for {} — sufficient history exists ({} >= {})",
-                    indicatorCode, currentCount, REQUIRED_HISTORY);
-            return;
-        }
-
-        // Need to backfill
-        log.info("Starting backfill for {} — current count {} is below required {}",
-                indicatorCode, currentCount, REQUIRED_HISTORY);
-
-        LocalDate startDate = LocalDate.now().minusDays(LOOKBACK_DAYS);
-        List<FredClient.FredObservation> observations = fredClient.fetchHistoricalObservations(
-                seriesId, startDate, FETCH_LIMIT);
-
-        if (observations.isEmpty()) {
-            log.warn("No historical observations fetched from FRED for {}", indicatorCode);
-            return;
-        }
+        Indicator indicator = indicatorService.findOrCreate(indicatorCode, series.getName(), series.getUnit());
 
-        log.info("Fetched {} observations from FRED for {}", observations.size(), indicatorCode);
-
-        int insertedCount = 0;
-        int skippedCount = 0;
-
-        for (FredClient.FredObservation obs : observations) {
-            // Check if this date already exists (idempotent)
-            if (indicatorValueService.existsByIndicatorAndDate(indicator, obs.date())) {
-                skippedCount++;
-                continue;
-            }
-
-            IndicatorValue value = IndicatorValue.builder()
-                    .indicator(indicator)
-                    .value(obs.value())
-                    .date(obs.date())
-                    .source(SOURCE)
-                    .build();
-
-            indicatorValueService.save(value);
-            insertedCount++;
-        }
-
-        log.info("Backfill completed for {}: inserted {} rows, skipped {} duplicates",
-                indicatorCode, insertedCount, skippedCount);
+        // Deep, paged backfill; a no-op once the series' checkpoint is COMPLETED
+        FredBackfillService.BackfillResult result = fredBackfillService.backfill(indicator, seriesId);
+        log.info("Backfill for {} finished with status {}: {} rows written",
+                indicatorCode, result.status(), result.rowsWritten());
+        return result.rowsWritten() > 0 ? Optional.of(indicator) : Optional.empty();
     }
-
-    private record IndicatorMeta(String name, String unit) {}
 }
@@ -0,0 +1,125 @@
+package com.goldlens.service;
+
+import com.goldlens.config.SignalProperties;
+import com.goldlens.domain.Indicator;
+import com.goldlens.domain.IndicatorValue;
+import com.goldlens.domain.SignalType;
+import com.goldlens.repository.IndicatorValueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory trend window per indicator, fed by every indicator value write
+ * (IndicatorValueService) so signal evaluation never reads values from the database.
+ *
+ * A window is loaded from the database once, on first use. Writes then keep it current in O(1):
+ * a newer observation is appended, a revision of the newest one replaces it. A write that lands
+ * inside the window behind its newest observation (a revision of an older date, a backfill
+ * page) marks the window stale, and it is reloaded on next use; older writes are ignored.
+ */
+@Component
+public class IndicatorSeriesBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(IndicatorSeriesBuffer.class);
+
+    private final IndicatorValueRepository indicatorValueRepository;
+    private final SignalProperties signalProperties;
+
+    private final Map<Long, Series> series = new ConcurrentHashMap<>();
+
+    public IndicatorSeriesBuffer(IndicatorValueRepository indicatorValueRepository,
+                                 SignalProperties signalProperties) {
+        this.indicatorValueRepository = indicatorValueRepository;
+        this.signalProperties = signalProperties;
+    }
+
+    /**
+     * Applies a committed write. Values of one indicator must arrive in date order.
+     */
+    public void record(Long indicatorId, LocalDate date, double value) {
+        Series s = series.get(indicatorId);
+        if (s == null) {
+            // Not loaded yet; the first evaluation loads it with this value included
+            return;
+        }
+        synchronized (s) {
+            if (s.stale) {
+                return;
+            }
+            TrendWindow window = s.window;
+            LocalDate latest = window.latestDate();
+            if (latest == null || date.isAfter(latest)) {
+                window.append(date, value);
+            } else if (date.isEqual(latest)) {
+                window.replaceLatest(value);
+            } else if (window.isFull() && date.isBefore(window.oldestDate())) {
+                // Older than anything the window covers
+            } else {
+                s.stale = true;
+            }
+        }
+    }
+
+    /**
+     * Drops an indicator's window so the next evaluation reloads it.
+     */
+    public void invalidate(Long indicatorId) {
+        Series s = series.get(indicatorId);
+        if (s != null) {
+            synchronized (s) {
+                s.stale = true;
+            }
+        }
+    }
+
+    /**
+     * Current trend of the indicator, or empty with fewer than 2 observations.
+     */
+    public Optional<Trend> evaluate(Indicator indicator) {
+        int capacity = signalProperties.windowFor(indicator.getCode());
+        Series s = series.computeIfAbsent(indicator.getId(), id -> new Series(capacity));
+        synchronized (s) {
+            if (s.stale || s.window.capacity() != capacity) {
+                load(indicator, s, capacity);
+            }
+            SignalType type = s.window.trend();
+            return type == null
+                    ? Optional.empty()
+                    : Optional.of(new Trend(type, s.window.size(), s.window.latestDate()));
+        }
+    }
+
+    private void load(Indicator indicator, Series s, int capacity) {
+        List<IndicatorValue> recent = indicatorValueRepository.findTopNByIndicatorOrderByDateDesc(indicator, capacity);
+        TrendWindow window = s.window.capacity() == capacity ? s.window : new TrendWindow(capacity);
+        window.clear();
+        // Newest first from the repository; the window is filled oldest first
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            IndicatorValue value = recent.get(i);
+            window.append(value.getDate(), value.getValue().doubleValue());
+        }
+        s.window = window;
+        s.stale = false;
+        log.debug("[signals] Loaded {} observations of {} into its trend window", window.size(), indicator.getCode());
+    }
+
+    public record Trend(SignalType type, int observations, LocalDate latestDate) {}
+
+    private static final class Series {
+
+        private TrendWindow window;
+        // Starts stale: loaded on first evaluation
+        private boolean stale = true;
+
+        Series(int capacity) {
+            this.window = new TrendWindow(capacity);
+        }
+    }
+}
@@ -4,8 +4,12 @@ import com.goldlens.domain.Indicator;
 import com.goldlens.repository.IndicatorRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class IndicatorService {
@@ -24,6 +28,11 @@ public class IndicatorService {
         return indicatorRepository.findByCode(code);
     }
 
+    public Map<String, Indicator> findByCodes(Collection<String> codes) {
+        return indicatorRepository.findByCodeIn(codes).stream()
+                .collect(Collectors.toMap(Indicator::getCode, Function.identity()));
+    }
+
     public Indicator save(Indicator indicator) {
         return indicatorRepository.save(indicator);
     }
@@ -3,19 +3,56 @@ package com.goldlens.service;
 import com.goldlens.domain.Indicator;
 import com.goldlens.domain.IndicatorValue;
 import com.goldlens.repository.IndicatorValueRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class IndicatorValueService {
 
+    private static final int UPSERT_CHUNK_SIZE = 5000;
+
+    // xmax = 0 only for rows this statement inserted, which tells inserts from updates
+    private static final String UPSERT_UPDATE_SQL = """
+            INSERT INTO indicator_values (indicator_id, date, value, source)
+            SELECT * FROM unnest(?::bigint[], ?::date[], ?::numeric[], ?::varchar[])
+            ON CONFLICT (indicator_id, date) DO UPDATE
+                SET value = EXCLUDED.value, source = EXCLUDED.source
+                WHERE indicator_values.value IS DISTINCT FROM EXCLUDED.value
+            RETURNING indicator_id, date, (xmax = 0)
+            """;
+
+    private static final String UPSERT_SKIP_SQL = """
+            INSERT INTO indicator_values (indicator_id, date, value, source)
+            SELECT * FROM unnest(?::bigint[], ?::date[], ?::numeric[], ?::varchar[])
+            ON CONFLICT (indicator_id, date) DO NOTHING
+            RETURNING indicator_id, date, true
+            """;
+
     private final IndicatorValueRepository indicatorValueRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final IndicatorSeriesBuffer seriesBuffer;
 
-    public IndicatorValueService(IndicatorValueRepository indicatorValueRepository) {
+    public IndicatorValueService(IndicatorValueRepository indicatorValueRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 IndicatorSeriesBuffer seriesBuffer) {
         this.indicatorValueRepository = indicatorValueRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.seriesBuffer = seriesBuffer;
     }
 
     public Optional<IndicatorValue> findLatestByIndicator(Indicator indicator) {
@@ -39,6 +76,111 @@ public class IndicatorValueService {
     }
 
     public IndicatorValue save(IndicatorValue indicatorValue) {
-        return indicatorValueRepository.save(indicatorValue);
+        IndicatorValue saved = indicatorValueRepository.save(indicatorValue);
+        afterCommit(List.of(saved));
+        return saved;
+    }
+
+    /**
+     * Writes many values with one INSERT ... SELECT FROM unnest(...) ON CONFLICT statement per
+     * chunk instead of an exists check and a save per row. JDBC is used directly: the IDENTITY
+     * id of IndicatorValue would stop Hibernate from batching, and no entities are needed back.
+     *
+     * SKIP leaves existing (indicator, date) rows untouched; UPDATE overwrites rows whose value
+     * differs (FRED revisions). Rows already holding the same value are counted as skipped.
+     * Duplicate (indicator, date) candidates are collapsed, the last one wins.
+     */
+    @Transactional
+    public UpsertResult upsertAll(List<IndicatorValue> candidates, OnConflict onConflict) {
+        Map<IndicatorDateKey, IndicatorValue> unique = new LinkedHashMap<>();
+        for (IndicatorValue candidate : candidates) {
+            unique.put(new IndicatorDateKey(candidate.getIndicator().getId(), candidate.getDate()), candidate);
+        }
+
+        List<IndicatorValue> rows = new ArrayList<>(unique.values());
+        List<Change> changes = new ArrayList<>();
+        String sql = onConflict == OnConflict.UPDATE ? UPSERT_UPDATE_SQL : UPSERT_SKIP_SQL;
+
+        for (int from = 0; from < rows.size(); from += UPSERT_CHUNK_SIZE) {
+            List<IndicatorValue> chunk = rows.subList(from, Math.min(rows.size(), from + UPSERT_CHUNK_SIZE));
+            jdbcTemplate.query(connection -> {
+                Long[] indicatorIds = new Long[chunk.size()];
+                Date[] dates = new Date[chunk.size()];
+                BigDecimal[] values = new BigDecimal[chunk.size()];
+                String[] sources = new String[chunk.size()];
+                for (int i = 0; i < chunk.size(); i++) {
+                    IndicatorValue row = chunk.get(i);
+                    indicatorIds[i] = row.getIndicator().getId();
+                    dates[i] = Date.valueOf(row.getDate());
+                    values[i] = row.getValue();
+                    sources[i] = row.getSource();
+                }
+                PreparedStatement statement = connection.prepareStatement(sql);
+                statement.setArray(1, connection.createArrayOf("bigint", indicatorIds));
+                statement.setArray(2, connection.createArrayOf("date", dates));
+                statement.setArray(3, connection.createArrayOf("numeric", values));
+                statement.setArray(4, connection.createArrayOf("varchar", sources));
+                return statement;
+            }, (ResultSet rs) -> {
+                changes.add(new Change(rs.getLong(1), rs.getDate(2).toLocalDate(), rs.getBoolean(3)));
+            });
+        }
+
+        List<IndicatorValue> written = new ArrayList<>(changes.size());
+        for (Change change : changes) {
+            written.add(unique.get(new IndicatorDateKey(change.indicatorId(), change.date())));
+        }
+        afterCommit(written);
+
+        return new UpsertResult(changes, rows.size() - changes.size());
+    }
+
+    /**
+     * Feeds written values to the signal engine's series buffer, in date order per indicator,
+     * once the surrounding transaction has committed.
+     */
+    private void afterCommit(List<IndicatorValue> written) {
+        if (written.isEmpty()) {
+            return;
+        }
+        List<IndicatorValue> ordered = new ArrayList<>(written);
+        ordered.sort(Comparator.comparing((IndicatorValue v) -> v.getIndicator().getId())
+                .thenComparing(IndicatorValue::getDate));
+
+        Runnable feed = () -> ordered.forEach(v ->
+                seriesBuffer.record(v.getIndicator().getId(), v.getDate(), v.getValue().doubleValue()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    feed.run();
+                }
+            });
+        } else {
+            feed.run();
+        }
+    }
+
+    public enum OnConflict {
+        SKIP,
+        UPDATE
+    }
+
+    /**
+     * One inserted or updated row.
+     */
+    public record Change(long indicatorId, LocalDate date, boolean inserted) {}
+
+    public record UpsertResult(List<Change> changes, int skipped) {
+
+        public int inserted() {
+            return (int) changes.stream().filter(Change::inserted).count();
+        }
+
+        public int updated() {
+            return changes.size() - inserted();
+        }
     }
+
+    private record IndicatorDateKey(Long indicatorId, LocalDate date) {}
 }
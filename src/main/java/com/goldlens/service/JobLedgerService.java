@@ -0,0 +1,97 @@
+package com.goldlens.service;
+
+import com.goldlens.domain.JobRun;
+import com.goldlens.domain.JobRunStatus;
+import com.goldlens.repository.JobRunRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persistent ledger of scheduled job runs (job_runs) and the cross-replica lock around them.
+ *
+ * A run is claimed by inserting its (job_name, scheduled_for) row as RUNNING; the unique key
+ * makes the insert succeed on exactly one replica. A slot can be claimed again only if its
+ * last run FAILED or its RUNNING lease expired (the owner died mid-run).
+ */
+@Service
+public class JobLedgerService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobLedgerService.class);
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private static final String CLAIM_SQL = """
+            INSERT INTO job_runs (job_name, scheduled_for, status, owner, attempts, started_at)
+            VALUES (?, ?, 'RUNNING', ?, 1, ?)
+            ON CONFLICT (job_name, scheduled_for) DO UPDATE
+                SET status = 'RUNNING', owner = EXCLUDED.owner, attempts = job_runs.attempts + 1,
+                    started_at = EXCLUDED.started_at, finished_at = NULL, rows_written = NULL, error = NULL
+                WHERE job_runs.status = 'FAILED'
+                   OR (job_runs.status = 'RUNNING' AND job_runs.started_at < ?)
+            RETURNING id
+            """;
+
+    private static final String FINISH_SQL = """
+            UPDATE job_runs SET status = ?, finished_at = ?, rows_written = ?, error = ?
+            WHERE id = ? AND owner = ?
+            """;
+
+    private final JobRunRepository jobRunRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration lease;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+
+    public JobLedgerService(JobRunRepository jobRunRepository,
+                            JdbcTemplate jdbcTemplate,
+                            @Value("${goldlens.jobs.lease:PT1H}") Duration lease) {
+        this.jobRunRepository = jobRunRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.lease = lease;
+    }
+
+    /**
+     * Claims a slot for this instance. Empty if another replica holds it or it already succeeded.
+     */
+    public Optional<Long> claim(String jobName, LocalDateTime scheduledFor) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = jdbcTemplate.queryForList(CLAIM_SQL, Long.class,
+                jobName, Timestamp.valueOf(scheduledFor), owner, Timestamp.valueOf(now),
+                Timestamp.valueOf(now.minus(lease)));
+        return ids.stream().findFirst();
+    }
+
+    public void succeeded(long runId, long rowsWritten) {
+        finish(runId, JobRunStatus.SUCCEEDED, rowsWritten, null);
+    }
+
+    public void failed(long runId, Throwable error) {
+        String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+        if (message.length() > MAX_ERROR_LENGTH) {
+            message = message.substring(0, MAX_ERROR_LENGTH);
+        }
+        finish(runId, JobRunStatus.FAILED, null, message);
+    }
+
+    public List<JobRun> findRecent() {
+        return jobRunRepository.findTop50ByOrderByStartedAtDesc();
+    }
+
+    private void finish(long runId, JobRunStatus status, Long rowsWritten, String error) {
+        int updated = jdbcTemplate.update(FINISH_SQL, status.name(), Timestamp.valueOf(LocalDateTime.now()),
+                rowsWritten, error, runId, owner);
+        if (updated == 0) {
+            // Lease expired and another replica took the slot over; its result wins
+            log.warn("[jobs] Run {} was taken over by another instance — {} not recorded", runId, status);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.goldlens.service;
+
+import com.goldlens.domain.RiskLevel;
+import com.goldlens.domain.SignalType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Point-in-time backtest of the risk rules: for every gold price day in a range, the risk level
+ * the current rules give for the signals that were known on that day, joined with the gold
+ * return over the following `horizon` price days.
+ *
+ * Prices and signals are loaded once into primitive arrays (epoch days, prices, signal states).
+ * Rows are then processed in chunks on a private fork-join pool: each chunk as-of joins every
+ * input's signals onto its days, resolves levels with RiskDecisionTable.indexAll, computes
+ * forward returns and accumulates per-level statistics.
+ */
+@Service
+public class RiskBacktestService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RiskBacktestService.class);
+
+    static final int CHUNK_SIZE = 1024;
+
+    private static final String SELECT_PRICES_SQL = """
+            SELECT date, price FROM gold_price_history
+            WHERE date BETWEEN ? AND ?
+            ORDER BY date
+            """;
+
+    // Prices after the range, needed for the forward returns of its last rows
+    private static final String SELECT_PRICES_AFTER_SQL = """
+            SELECT date, price FROM gold_price_history
+            WHERE date > ?
+            ORDER BY date
+            LIMIT ?
+            """;
+
+    private static final String SELECT_SIGNALS_SQL = """
+            SELECT s.as_of_date, s.signal_type FROM signals s
+            JOIN indicators i ON i.id = s.indicator_id
+            WHERE i.code = ? AND s.as_of_date <= ?
+            ORDER BY s.as_of_date
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GoldRiskAggregationService goldRiskAggregationService;
+    private final ForkJoinPool pool;
+
+    public RiskBacktestService(JdbcTemplate jdbcTemplate,
+                               GoldRiskAggregationService goldRiskAggregationService,
+                               @Value("${goldlens.risk.backtest.parallelism:4}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.goldRiskAggregationService = goldRiskAggregationService;
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+
+    /**
+     * Runs the backtest over [from, to].
+     *
+     * @param horizon forward return horizon in price days (at least 1)
+     */
+    public Backtest run(LocalDate from, LocalDate to, int horizon) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (horizon < 1) {
+            throw new IllegalArgumentException("horizon must be at least 1");
+        }
+        long started = System.nanoTime();
+        RiskDecisionTable table = goldRiskAggregationService.getDecisionTable();
+
+        Column prices = loadPrices(from, to, horizon);
+        int rows = prices.rangeSize;
+        List<Column> signals = new ArrayList<>();
+        for (String code : table.inputs()) {
+            signals.add(loadSignals(code, to));
+        }
+
+        byte[][] states = new byte[signals.size()][rows];
+        int[] outcomes = new int[rows];
+        double[] forwardReturns = new double[rows];
+        int chunks = (rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        LevelStats stats = pool.submit(() -> IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    int start = chunk * CHUNK_SIZE;
+                    int end = Math.min(rows, start + CHUNK_SIZE);
+                    for (int i = 0; i < signals.size(); i++) {
+                        asOfJoin(signals.get(i), prices.days, start, end, states[i]);
+                    }
+                    table.indexAll(states, start, end, outcomes);
+                    return computeChunk(table, prices, horizon, start, end, outcomes, forwardReturns);
+                })
+                .reduce(new LevelStats(), LevelStats::merge)).join();
+
+        long millis = (System.nanoTime() - started) / 1_000_000;
+        log.info("[risk-backtest] {} to {} (horizon {}): {} days in {} ms", from, to, horizon, rows, millis);
+        return new Backtest(from, to, horizon, table, Arrays.copyOf(prices.days, rows),
+                Arrays.copyOf(prices.values, rows), outcomes, forwardReturns, stats.summarise(), millis);
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    static LevelStats computeChunk(RiskDecisionTable table, Column prices, int horizon,
+                                   int start, int end, int[] outcomes, double[] forwardReturns) {
+        LevelStats stats = new LevelStats();
+        for (int row = start; row < end; row++) {
+            int level = table.level(outcomes[row]).ordinal();
+            int target = row + horizon;
+            double forward = target < prices.size ? prices.values[target] / prices.values[row] - 1 : Double.NaN;
+            forwardReturns[row] = forward;
+            stats.days[level]++;
+            if (!Double.isNaN(forward)) {
+                stats.withReturn[level]++;
+                stats.returnSum[level] += forward;
+                if (forward > 0) {
+                    stats.positive[level]++;
+                }
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * For each day in [start, end), the state of the latest signal on or before it.
+     */
+    static void asOfJoin(Column signals, long[] days, int start, int end, byte[] out) {
+        if (start >= end) {
+            return;
+        }
+        int k = Arrays.binarySearch(signals.days, 0, signals.size, days[start]);
+        if (k < 0) {
+            k = -k - 2;
+        }
+        for (int row = start; row < end; row++) {
+            while (k + 1 < signals.size && signals.days[k + 1] <= days[row]) {
+                k++;
+            }
+            out[row] = k >= 0 ? (byte) signals.values[k] : RiskDecisionTable.NO_SIGNAL;
+        }
+    }
+
+    private Column loadPrices(LocalDate from, LocalDate to, int horizon) {
+        Column prices = new Column();
+        jdbcTemplate.query(SELECT_PRICES_SQL, (ResultSet rs) -> {
+            prices.add(rs.getDate(1).toLocalDate().toEpochDay(), rs.getDouble(2));
+        }, Date.valueOf(from), Date.valueOf(to));
+        prices.rangeSize = prices.size;
+        jdbcTemplate.query(SELECT_PRICES_AFTER_SQL, (ResultSet rs) -> {
+            prices.add(rs.getDate(1).toLocalDate().toEpochDay(), rs.getDouble(2));
+        }, Date.valueOf(to), horizon);
+        return prices;
+    }
+
+    private Column loadSignals(String indicatorCode, LocalDate to) {
+        Column signals = new Column();
+        jdbcTemplate.query(SELECT_SIGNALS_SQL, (ResultSet rs) -> {
+            signals.add(rs.getDate(1).toLocalDate().toEpochDay(), SignalType.valueOf(rs.getString(2)).ordinal());
+        }, indicatorCode, Date.valueOf(to));
+        return signals;
+    }
+
+    /**
+     * Growable (epoch day, value) column pair.
+     */
+    static final class Column {
+
+        long[] days = new long[1024];
+        double[] values = new double[1024];
+        int size;
+        // Rows inside the requested range; rows after it only feed forward returns
+        int rangeSize;
+
+        void add(long day, double value) {
+            if (size == days.length) {
+                days = Arrays.copyOf(days, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            days[size] = day;
+            values[size] = value;
+            size++;
+        }
+    }
+
+    /**
+     * Per-level counters, indexed by RiskLevel ordinal.
+     */
+    static final class LevelStats {
+
+        private final long[] days = new long[RiskLevel.values().length];
+        private final long[] withReturn = new long[RiskLevel.values().length];
+        private final long[] positive = new long[RiskLevel.values().length];
+        private final double[] returnSum = new double[RiskLevel.values().length];
+
+        LevelStats merge(LevelStats other) {
+            LevelStats merged = new LevelStats();
+            for (int i = 0; i < days.length; i++) {
+                merged.days[i] = days[i] + other.days[i];
+                merged.withReturn[i] = withReturn[i] + other.withReturn[i];
+                merged.positive[i] = positive[i] + other.positive[i];
+                merged.returnSum[i] = returnSum[i] + other.returnSum[i];
+            }
+            return merged;
+        }
+
+        List<LevelSummary> summarise() {
+            List<LevelSummary> summary = new ArrayList<>();
+            for (RiskLevel level : RiskLevel.values()) {
+                int i = level.ordinal();
+                long n = withReturn[i];
+                summary.add(new LevelSummary(level, days[i], n,
+                        n == 0 ? null : returnSum[i] / n,
+                        n == 0 ? null : (double) positive[i] / n));
+            }
+            return summary;
+        }
+    }
+
+    /**
+     * Days at a risk level, and the mean and share of positive forward returns among those
+     * days whose horizon is covered by price data (null when none are).
+     */
+    public record LevelSummary(RiskLevel level, long days, long daysWithReturn,
+                               Double meanForwardReturn, Double positiveShare) {}
+
+    /**
+     * Backtest output as columns; row i is the i-th gold price day in the range.
+     */
+    public static final class Backtest {
+
+        private final LocalDate from;
+        private final LocalDate to;
+        private final int horizon;
+        private final RiskDecisionTable table;
+        private final long[] days;
+        private final double[] prices;
+        private final int[] outcomes;
+        private final double[] forwardReturns;
+        private final List<LevelSummary> summary;
+        private final long millis;
+
+        private Backtest(LocalDate from, LocalDate to, int horizon, RiskDecisionTable table, long[] days,
+                         double[] prices, int[] outcomes, double[] forwardReturns,
+                         List<LevelSummary> summary, long millis) {
+            this.from = from;
+            this.to = to;
+            this.horizon = horizon;
+            this.table = table;
+            this.days = days;
+            this.prices = prices;
+            this.outcomes = outcomes;
+            this.forwardReturns = forwardReturns;
+            this.summary = summary;
+            this.millis = millis;
+        }
+
+        public LocalDate from() {
+            return from;
+        }
+
+        public LocalDate to() {
+            return to;
+        }
+
+        public int horizon() {
+            return horizon;
+        }
+
+        public int size() {
+            return days.length;
+        }
+
+        public LocalDate date(int row) {
+            return LocalDate.ofEpochDay(days[row]);
+        }
+
+        public double price(int row) {
+            return prices[row];
+        }
+
+        public RiskLevel level(int row) {
+            return table.level(outcomes[row]);
+        }
+
+        public String reason(int row) {
+            return table.reason(outcomes[row]);
+        }
+
+        /**
+         * NaN when the horizon runs past the available prices.
+         */
+        public double forwardReturn(int row) {
+            return forwardReturns[row];
+        }
+
+        public List<LevelSummary> summary() {
+            return summary;
+        }
+
+        public long millis() {
+            return millis;
+        }
+    }
+}
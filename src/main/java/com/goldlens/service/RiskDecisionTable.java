@@ -0,0 +1,214 @@
+package com.goldlens.service;
+
+import com.goldlens.config.RiskRuleProperties;
+import com.goldlens.domain.RiskLevel;
+import com.goldlens.domain.SignalType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Risk rules compiled into a lookup table. Each input indicator is in one of four states
+ * (GREEN, YELLOW, RED, or no signal), so N inputs give 4^N combinations; at startup every
+ * combination is resolved once against the incomplete outcome, the ordered rules and the
+ * weighted fallback. Evaluating a set of signals is then a single array read.
+ */
+public final class RiskDecisionTable {
+
+    // 4^8 = 65536 entries; more inputs would call for a different representation
+    private static final int MAX_INPUTS = 8;
+
+    private static final int STATES = 4;
+    private static final int MISSING = 3;
+
+    /**
+     * State of an input without a signal, for columnar evaluation (other states are SignalType ordinals).
+     */
+    public static final byte NO_SIGNAL = MISSING;
+
+    private final List<String> inputs;
+    private final RiskLevel[] levels;
+    private final String[] reasons;
+
+    private RiskDecisionTable(List<String> inputs, RiskLevel[] levels, String[] reasons) {
+        this.inputs = inputs;
+        this.levels = levels;
+        this.reasons = reasons;
+    }
+
+    public static RiskDecisionTable compile(RiskRuleProperties properties) {
+        List<String> inputs = new ArrayList<>();
+        double[] weights = new double[properties.getInputs().size()];
+        for (RiskRuleProperties.Input input : properties.getInputs()) {
+            if (input.getIndicatorCode() == null || input.getIndicatorCode().isBlank()) {
+                throw new IllegalStateException("goldlens.risk.inputs entry without indicator-code");
+            }
+            weights[inputs.size()] = input.getWeight();
+            inputs.add(input.getIndicatorCode());
+        }
+        if (inputs.isEmpty() || inputs.size() > MAX_INPUTS) {
+            throw new IllegalStateException("goldlens.risk.inputs must list 1 to " + MAX_INPUTS
+                    + " indicators, got " + inputs.size());
+        }
+
+        List<int[]> patterns = new ArrayList<>();
+        for (RiskRuleProperties.Rule rule : properties.getRules()) {
+            patterns.add(compilePattern(rule, inputs.size()));
+        }
+
+        int size = 1;
+        for (int i = 0; i < inputs.size(); i++) {
+            size *= STATES;
+        }
+        RiskLevel[] levels = new RiskLevel[size];
+        String[] reasons = new String[size];
+        int[] states = new int[inputs.size()];
+
+        for (int index = 0; index < size; index++) {
+            decode(index, states);
+            RiskRuleProperties.Outcome outcome = resolve(properties, patterns, states);
+            if (outcome != null) {
+                levels[index] = outcome.getLevel();
+                reasons[index] = outcome.getReason();
+            } else {
+                fallback(properties.getFallback(), weights, states, levels, reasons, index);
+            }
+        }
+        return new RiskDecisionTable(List.copyOf(inputs), levels, reasons);
+    }
+
+    /**
+     * Indicator codes of the inputs, in table order.
+     */
+    public List<String> inputs() {
+        return inputs;
+    }
+
+    /**
+     * Looks up the outcome for the given signals by indicator code; absent codes count as missing.
+     */
+    public RiskResult evaluate(Map<String, SignalType> signals) {
+        int index = 0;
+        for (int i = inputs.size() - 1; i >= 0; i--) {
+            SignalType type = signals.get(inputs.get(i));
+            index = index * STATES + (type != null ? type.ordinal() : MISSING);
+        }
+        return new RiskResult(levels[index], reasons[index]);
+    }
+
+    /**
+     * Columnar lookup for rows [from, to): states[i][row] is the state of input i on that row.
+     * Writes each row's table index into out; resolve it with level(int) and reason(int).
+     */
+    public void indexAll(byte[][] states, int from, int to, int[] out) {
+        for (int row = from; row < to; row++) {
+            out[row] = 0;
+        }
+        for (int i = inputs.size() - 1; i >= 0; i--) {
+            byte[] column = states[i];
+            for (int row = from; row < to; row++) {
+                out[row] = out[row] * STATES + column[row];
+            }
+        }
+    }
+
+    public RiskLevel level(int index) {
+        return levels[index];
+    }
+
+    public String reason(int index) {
+        return reasons[index];
+    }
+
+    public record RiskResult(RiskLevel level, String reason) {}
+
+    private static RiskRuleProperties.Outcome resolve(RiskRuleProperties properties, List<int[]> patterns, int[] states) {
+        for (int state : states) {
+            if (state == MISSING) {
+                return properties.getIncomplete();
+            }
+        }
+        for (int r = 0; r < patterns.size(); r++) {
+            if (matches(patterns.get(r), states)) {
+                return properties.getRules().get(r);
+            }
+        }
+        return null;
+    }
+
+    private static void fallback(RiskRuleProperties.Fallback fallback, double[] weights, int[] states,
+                                 RiskLevel[] levels, String[] reasons, int index) {
+        double score = 0;
+        double total = 0;
+        for (int i = 0; i < states.length; i++) {
+            score += weights[i] * direction(states[i]);
+            total += Math.abs(weights[i]);
+        }
+        double normalised = total == 0 ? 0 : score / total;
+        if (normalised >= fallback.getHighThreshold()) {
+            levels[index] = RiskLevel.HIGH;
+            reasons[index] = fallback.getHighReason();
+        } else if (normalised <= fallback.getLowThreshold()) {
+            levels[index] = RiskLevel.LOW;
+            reasons[index] = fallback.getLowReason();
+        } else {
+            levels[index] = RiskLevel.MEDIUM;
+            reasons[index] = fallback.getMediumReason();
+        }
+    }
+
+    // RED is bearish for gold (+1 risk), GREEN supportive (-1)
+    private static int direction(int state) {
+        if (state == SignalType.RED.ordinal()) {
+            return 1;
+        }
+        if (state == SignalType.GREEN.ordinal()) {
+            return -1;
+        }
+        return 0;
+    }
+
+    /**
+     * Bit mask of accepted states per input.
+     */
+    private static int[] compilePattern(RiskRuleProperties.Rule rule, int inputCount) {
+        if (rule.getMatch().size() > inputCount) {
+            throw new IllegalStateException("Risk rule '" + rule.getReason() + "' has "
+                    + rule.getMatch().size() + " patterns for " + inputCount + " inputs");
+        }
+        int any = (1 << SignalType.values().length) - 1;
+        int[] masks = new int[inputCount];
+        for (int i = 0; i < inputCount; i++) {
+            masks[i] = i < rule.getMatch().size() ? parseMask(rule.getMatch().get(i).trim(), any) : any;
+        }
+        return masks;
+    }
+
+    private static int parseMask(String pattern, int any) {
+        if (pattern.equals("*")) {
+            return any;
+        }
+        int mask = 0;
+        for (String part : pattern.split("\\|")) {
+            mask |= 1 << SignalType.valueOf(part.trim().toUpperCase()).ordinal();
+        }
+        return mask;
+    }
+
+    private static boolean matches(int[] masks, int[] states) {
+        for (int i = 0; i < states.length; i++) {
+            if ((masks[i] & (1 << states[i])) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void decode(int index, int[] states) {
+        for (int i = 0; i < states.length; i++) {
+            states[i] = index % STATES;
+            index /= STATES;
+        }
+    }
+}
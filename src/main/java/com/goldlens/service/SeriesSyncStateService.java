@@ -0,0 +1,32 @@
+package com.goldlens.service;
+
+import com.goldlens.domain.SeriesSyncState;
+import com.goldlens.repository.SeriesSyncStateRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class SeriesSyncStateService {
+
+    private final SeriesSyncStateRepository seriesSyncStateRepository;
+
+    public SeriesSyncStateService(SeriesSyncStateRepository seriesSyncStateRepository) {
+        this.seriesSyncStateRepository = seriesSyncStateRepository;
+    }
+
+    public Map<String, SeriesSyncState> findBySeriesIds(Collection<String> seriesIds) {
+        return seriesSyncStateRepository.findBySeriesIdIn(seriesIds).stream()
+                .collect(Collectors.toMap(SeriesSyncState::getSeriesId, Function.identity()));
+    }
+
+    @Transactional
+    public List<SeriesSyncState> saveAll(Collection<SeriesSyncState> states) {
+        return seriesSyncStateRepository.saveAll(states);
+    }
+}
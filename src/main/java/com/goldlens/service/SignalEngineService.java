@@ -1,7 +1,6 @@
 package com.goldlens.service;
 
 import com.goldlens.domain.Indicator;
-import com.goldlens.domain.IndicatorValue;
 import com.goldlens.domain.Signal;
 import com.goldlens.domain.SignalType;
 import com.goldlens.repository.SignalRepository;
@@ -11,6 +10,7 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,81 +27,65 @@ public class SignalEngineService {
     private static final String DXY_CODE = "US_DOLLAR_INDEX";
 
     private final SignalRepository signalRepository;
-    private final IndicatorValueService indicatorValueService;
+    private final IndicatorSeriesBuffer seriesBuffer;
 
-    public SignalEngineService(SignalRepository signalRepository, IndicatorValueService indicatorValueService) {
+    public SignalEngineService(SignalRepository signalRepository, IndicatorSeriesBuffer seriesBuffer) {
         this.signalRepository = signalRepository;
-        this.indicatorValueService = indicatorValueService;
+        this.seriesBuffer = seriesBuffer;
     }
 
     /**
-     * Computes and persists a signal for the given indicator and date.
-     * Idempotent: skips if signal already exists for that date.
+     * Computes the indicator's signal from its newest observations and stores it as of the newest
+     * observation's date, never later, so no signal row is backed by data that did not yet exist.
+     * An existing row for that date is overwritten when a revision changed the signal.
      */
-    public void computeAndStoreSignal(Indicator indicator, LocalDate asOfDate) {
-        log.info("Evaluating signal for indicator={} asOfDate={}", indicator.getCode(), asOfDate);
-
-        if (signalRepository.existsByIndicatorAndAsOfDate(indicator, asOfDate)) {
-            log.info("Signal already exists for date {} – skipping", asOfDate);
+    public void refreshLatestSignal(Indicator indicator) {
+        // Trend comes from the in-memory window; no value rows are read here
+        Optional<IndicatorSeriesBuffer.Trend> trend = seriesBuffer.evaluate(indicator);
+        if (trend.isEmpty()) {
+            log.info("Not enough data points to compute signal for {} – skipping", indicator.getCode());
             return;
         }
 
-        List<IndicatorValue> recentValues = indicatorValueService.findRecentByIndicator(indicator, 3);
-
-        if (recentValues.size() < 2) {
-            log.info("Not enough data points ({}) to compute signal – skipping", recentValues.size());
+        LocalDate asOfDate = trend.get().latestDate();
+        SignalResult result = resultFor(indicator.getCode(), trend.get().type());
+        log.info("Signal evaluated for indicator={} asOfDate={}: type={}, reason={}",
+                indicator.getCode(), asOfDate, result.type(), result.reason());
+
+        Optional<Signal> existing = signalRepository.findByIndicatorAndAsOfDate(indicator, asOfDate);
+        if (existing.isPresent()) {
+            Signal signal = existing.get();
+            if (signal.getSignalType() == result.type()) {
+                log.info("Signal for date {} unchanged – skipping", asOfDate);
+                return;
+            }
+            log.info("Signal for date {} revised from {} to {}", asOfDate, signal.getSignalType(), result.type());
+            signal.setSignalType(result.type());
+            signal.setReason(result.reason());
+            signal.setConfidence(result.confidence());
+            signalRepository.save(signal);
             return;
         }
 
-        SignalResult result = evaluateTrend(indicator.getCode(), recentValues);
-        log.info("Signal evaluated: type={}, reason={}", result.type(), result.reason());
-
-        Signal signal = Signal.builder()
+        signalRepository.save(Signal.builder()
                 .indicator(indicator)
                 .signalType(result.type())
                 .reason(result.reason())
                 .asOfDate(asOfDate)
                 .confidence(result.confidence())
-                .build();
-
-        signalRepository.save(signal);
+                .build());
         log.info("Inserted signal for date {}", asOfDate);
     }
 
     /**
-     * Evaluates trend direction from recent values.
-     * Values are ordered most recent first.
+     * Reason and confidence stored with a signal of the given type; shared with SignalReplayService.
      */
-    private SignalResult evaluateTrend(String indicatorCode, List<IndicatorValue> values) {
-        // Values are sorted by date descending (most recent first)
-        // Compare consecutive pairs to determine trend direction
-        int risingCount = 0;
-        int fallingCount = 0;
-
-        for (int i = 0; i < values.size() - 1; i++) {
-            BigDecimal current = values.get(i).getValue();
-            BigDecimal previous = values.get(i + 1).getValue();
-
-            int comparison = current.compareTo(previous);
-            if (comparison > 0) {
-                risingCount++;
-            } else if (comparison < 0) {
-                fallingCount++;
-            }
-        }
-
-        // Rising for 3 consecutive observations → RED
-        if (risingCount >= 2 && values.size() >= 3) {
-            return new SignalResult(SignalType.RED, getRedReason(indicatorCode), CONFIDENCE_HIGH);
-        }
-
-        // Falling for 2+ observations → GREEN
-        if (fallingCount >= 2) {
-            return new SignalResult(SignalType.GREEN, getGreenReason(indicatorCode), CONFIDENCE_HIGH);
-        }
-
-        // Mixed / flat → YELLOW
-        return new SignalResult(SignalType.YELLOW, getYellowReason(indicatorCode), CONFIDENCE_MEDIUM);
+    SignalResult resultFor(String indicatorCode, SignalType type) {
+        return switch (type) {
+            case RED -> new SignalResult(SignalType.RED, getRedReason(indicatorCode), CONFIDENCE_HIGH);
+            case GREEN -> new SignalResult(SignalType.GREEN, getGreenReason(indicatorCode), CONFIDENCE_HIGH);
+            case YELLOW -> new SignalResult(SignalType.YELLOW, getYellowReason(indicatorCode), CONFIDENCE_MEDIUM);
+        };
     }
 
     private String getRedReason(String indicatorCode) {
@@ -132,5 +116,12 @@ public class SignalEngineService {
         return signalRepository.findTopByIndicatorOrderByAsOfDateDesc(indicator);
     }
 
-    private record SignalResult(SignalType type, String reason, BigDecimal confidence) {}
+    /**
+     * Latest signal per indicator code, indicators fetched, in a single query.
+     */
+    public List<Signal> findLatestByIndicatorCodes(Collection<String> indicatorCodes) {
+        return signalRepository.findLatestByIndicatorCodes(indicatorCodes);
+    }
+
+    record SignalResult(SignalType type, String reason, BigDecimal confidence) {}
 }
@@ -0,0 +1,41 @@
+package com.goldlens.service;
+
+import com.goldlens.event.IndicatorValuesIngested;
+import com.goldlens.event.SignalComputed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Signal stage of the ingestion → signal → risk pipeline: recomputes an indicator's signal
+ * as soon as its values are ingested, then reports the indicator as settled for the day.
+ */
+@Component
+public class SignalPipelineListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SignalPipelineListener.class);
+
+    private final SignalEngineService signalEngineService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SignalPipelineListener(SignalEngineService signalEngineService,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.signalEngineService = signalEngineService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener
+    public void onIndicatorValuesIngested(IndicatorValuesIngested event) {
+        String code = event.indicator().getCode();
+        if (event.hasChanges()) {
+            log.info("[pipeline] {} ingested ({} inserted, {} revised) — refreshing signal",
+                    code, event.inserted(), event.revised());
+            signalEngineService.refreshLatestSignal(event.indicator());
+        } else {
+            log.info("[pipeline] {} unchanged — existing signal stands", code);
+        }
+        eventPublisher.publishEvent(new SignalComputed(code, event.runDate()));
+    }
+}
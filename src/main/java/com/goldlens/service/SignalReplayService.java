@@ -0,0 +1,187 @@
+package com.goldlens.service;
+
+import com.goldlens.config.SignalProperties;
+import com.goldlens.domain.Indicator;
+import com.goldlens.domain.SignalType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Rebuilds signal history: for each date an indicator has a value, the signal that would
+ * have held on that date, written over whatever the signals table holds.
+ *
+ * Each indicator is one streaming pass over its indicator_values in date order (server-side
+ * cursor), sliding a TrendWindow with the live engine's window length and rules. Results are
+ * written in chunks with INSERT ... ON CONFLICT (indicator_id, as_of_date) DO UPDATE, so memory
+ * stays flat for any history length. Indicators run in parallel on a private fork-join pool.
+ */
+@Service
+public class SignalReplayService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SignalReplayService.class);
+
+    private static final int FETCH_SIZE = 5000;
+    private static final int WRITE_CHUNK_SIZE = 5000;
+
+    private static final String SELECT_VALUES_SQL = """
+            SELECT date, value FROM indicator_values
+            WHERE indicator_id = ?
+            ORDER BY date
+            """;
+
+    // Rows already holding the same signal are not rewritten
+    private static final String UPSERT_SQL = """
+            INSERT INTO signals (indicator_id, as_of_date, signal_type, reason, confidence)
+            SELECT ?, d, t, r, c FROM unnest(?::date[], ?::varchar[], ?::varchar[], ?::numeric[]) AS u(d, t, r, c)
+            ON CONFLICT (indicator_id, as_of_date) DO UPDATE
+                SET signal_type = EXCLUDED.signal_type, reason = EXCLUDED.reason, confidence = EXCLUDED.confidence
+                WHERE signals.signal_type IS DISTINCT FROM EXCLUDED.signal_type
+                   OR signals.reason IS DISTINCT FROM EXCLUDED.reason
+                   OR signals.confidence IS DISTINCT FROM EXCLUDED.confidence
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SignalEngineService signalEngineService;
+    private final SignalProperties signalProperties;
+    private final ForkJoinPool pool;
+
+    public SignalReplayService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               SignalEngineService signalEngineService,
+                               SignalProperties signalProperties,
+                               @Value("${goldlens.signals.replay.parallelism:4}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.signalEngineService = signalEngineService;
+        this.signalProperties = signalProperties;
+        // Each worker holds a DB connection for its pass, so keep this below the pool size
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+
+    /**
+     * Replays the given indicators in parallel and blocks until all are done.
+     */
+    public List<ReplayResult> replay(List<Indicator> indicators) {
+        long started = System.nanoTime();
+        List<ForkJoinTask<ReplayResult>> tasks = indicators.stream()
+                .map(indicator -> pool.submit(() -> replay(indicator)))
+                .toList();
+        List<ReplayResult> results = tasks.stream().map(ForkJoinTask::join).toList();
+
+        log.info("[signal-replay] Replayed {} indicators ({} signals) in {} ms",
+                results.size(), results.stream().mapToLong(ReplayResult::signals).sum(),
+                (System.nanoTime() - started) / 1_000_000);
+        return results;
+    }
+
+    /**
+     * Replays one indicator in the calling thread.
+     */
+    public ReplayResult replay(Indicator indicator) {
+        long started = System.nanoTime();
+        Writer writer = new Writer(indicator);
+        TrendWindow window = new TrendWindow(signalProperties.windowFor(indicator.getCode()));
+
+        // The cursor (fetch size) only streams inside a transaction on PostgreSQL
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(SELECT_VALUES_SQL);
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setLong(1, indicator.getId());
+                return statement;
+            }, (ResultSet rs) -> {
+                LocalDate date = rs.getDate(1).toLocalDate();
+                BigDecimal value = rs.getBigDecimal(2);
+                window.append(date, value.doubleValue());
+                SignalType type = window.trend();
+                if (type != null) {
+                    writer.add(date, type);
+                }
+            });
+            writer.flush();
+        });
+
+        ReplayResult result = new ReplayResult(indicator.getCode(), writer.written,
+                (System.nanoTime() - started) / 1_000_000);
+        log.info("[signal-replay] {}: {} signals in {} ms", result.indicatorCode(), result.signals(), result.millis());
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    public record ReplayResult(String indicatorCode, long signals, long millis) {}
+
+    /**
+     * Buffers one chunk of (date, signal) rows as arrays and upserts it when full.
+     */
+    private final class Writer {
+
+        private final Indicator indicator;
+        private final Map<SignalType, SignalEngineService.SignalResult> results = new EnumMap<>(SignalType.class);
+        private final Date[] dates = new Date[WRITE_CHUNK_SIZE];
+        private final String[] types = new String[WRITE_CHUNK_SIZE];
+        private final String[] reasons = new String[WRITE_CHUNK_SIZE];
+        private final BigDecimal[] confidences = new BigDecimal[WRITE_CHUNK_SIZE];
+        private int size;
+        private long written;
+
+        Writer(Indicator indicator) {
+            this.indicator = indicator;
+            for (SignalType type : SignalType.values()) {
+                results.put(type, signalEngineService.resultFor(indicator.getCode(), type));
+            }
+        }
+
+        void add(LocalDate date, SignalType type) {
+            SignalEngineService.SignalResult result = results.get(type);
+            dates[size] = Date.valueOf(date);
+            types[size] = type.name();
+            reasons[size] = result.reason();
+            confidences[size] = result.confidence();
+            size++;
+            if (size == WRITE_CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (size == 0) {
+                return;
+            }
+            int n = size;
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(UPSERT_SQL);
+                statement.setLong(1, indicator.getId());
+                statement.setArray(2, connection.createArrayOf("date", Arrays.copyOf(dates, n)));
+                statement.setArray(3, connection.createArrayOf("varchar", Arrays.copyOf(types, n)));
+                statement.setArray(4, connection.createArrayOf("varchar", Arrays.copyOf(reasons, n)));
+                statement.setArray(5, connection.createArrayOf("numeric", Arrays.copyOf(confidences, n)));
+                return statement;
+            });
+            written += n;
+            size = 0;
+        }
+    }
+}
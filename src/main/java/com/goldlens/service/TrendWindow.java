@@ -0,0 +1,127 @@
+package com.goldlens.service;
+
+import com.goldlens.domain.SignalType;
+
+import java.time.LocalDate;
+
+/**
+ * Fixed-size ring buffer of an indicator's most recent observations (dates and values as
+ * primitives) with its trend state kept up to date on every change: the number of rising and
+ * falling consecutive pairs in the window. Appending, replacing the newest value and reading
+ * the trend are all O(1).
+ *
+ * Not thread-safe; callers synchronize.
+ */
+public final class TrendWindow {
+
+    private final long[] days;
+    private final double[] values;
+    private int head; // index of the oldest observation
+    private int size;
+    private int rising;
+    private int falling;
+
+    public TrendWindow(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Trend window needs at least 2 observations, got " + capacity);
+        }
+        this.days = new long[capacity];
+        this.values = new double[capacity];
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isFull() {
+        return size == values.length;
+    }
+
+    public LocalDate latestDate() {
+        return size == 0 ? null : LocalDate.ofEpochDay(days[index(size - 1)]);
+    }
+
+    public LocalDate oldestDate() {
+        return size == 0 ? null : LocalDate.ofEpochDay(days[head]);
+    }
+
+    /**
+     * Appends an observation newer than the latest one, evicting the oldest when full.
+     */
+    public void append(LocalDate date, double value) {
+        if (size > 0 && date.toEpochDay() <= days[index(size - 1)]) {
+            throw new IllegalArgumentException("Observation " + date + " is not after " + latestDate());
+        }
+        if (isFull()) {
+            // The pair (oldest, second oldest) leaves the window
+            count(values[head], values[index(1)], -1);
+            head = index(1);
+            size--;
+        }
+        if (size > 0) {
+            count(values[index(size - 1)], value, 1);
+        }
+        int slot = index(size);
+        days[slot] = date.toEpochDay();
+        values[slot] = value;
+        size++;
+    }
+
+    /**
+     * Replaces the value of the latest observation (a revision of the newest date).
+     */
+    public void replaceLatest(double value) {
+        if (size == 0) {
+            throw new IllegalStateException("Trend window is empty");
+        }
+        int last = index(size - 1);
+        if (size > 1) {
+            double previous = values[index(size - 2)];
+            count(previous, values[last], -1);
+            count(previous, value, 1);
+        }
+        values[last] = value;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+        rising = 0;
+        falling = 0;
+    }
+
+    /**
+     * The signal for the current window, or null with fewer than 2 observations. RED/GREEN need
+     * a full window moving in one direction; anything else is YELLOW.
+     */
+    public SignalType trend() {
+        if (size < 2) {
+            return null;
+        }
+        int pairs = values.length - 1;
+        if (isFull() && rising == pairs) {
+            return SignalType.RED;
+        }
+        if (isFull() && falling == pairs) {
+            return SignalType.GREEN;
+        }
+        return SignalType.YELLOW;
+    }
+
+    private void count(double previous, double current, int delta) {
+        // Primitive comparison: -0.0 and 0.0 are equal, as with BigDecimal.compareTo
+        if (current > previous) {
+            rising += delta;
+        } else if (current < previous) {
+            falling += delta;
+        }
+    }
+
+    private int index(int offset) {
+        return (head + offset) % values.length;
+    }
+}
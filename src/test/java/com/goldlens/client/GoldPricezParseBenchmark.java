@@ -0,0 +1,119 @@
+package com.goldlens.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldlens.dto.GoldPriceSnapshot;
+import com.goldlens.dto.GoldPricezResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the old String/ObjectMapper parse of a GoldPricez response with the streaming
+ * GoldPricezPayloadParser, on plain and double-encoded payloads (src/test/resources/goldpricez).
+ *
+ * Not part of the test run. Run with:
+ *   ./mvnw test-compile exec:java -Dexec.mainClass=com.goldlens.client.GoldPricezParseBenchmark
+ * or the main method from an IDE. Add -prof gc (via OptionsBuilder.addProfiler) to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GoldPricezParseBenchmark {
+
+    // Formatter as it was used by the removed String-based path
+    private static final DateTimeFormatter LEGACY_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("dd-MM-yyyy hh:mm:ss a", Locale.ENGLISH);
+
+    @Param({"rates-usd-ounce.json", "rates-usd-ounce-double-encoded.json"})
+    public String payload;
+
+    private byte[] body;
+    private ObjectMapper objectMapper;
+    private GoldPricezPayloadParser streamingParser;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = GoldPricezParseBenchmark.class.getResourceAsStream("/goldpricez/" + payload)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing benchmark payload " + payload);
+            }
+            body = in.readAllBytes();
+        }
+        objectMapper = new ObjectMapper();
+        streamingParser = new GoldPricezPayloadParser();
+    }
+
+    /**
+     * The previous path: bodyToMono(String), UUID request id, trim, unwrap via readValue(String.class),
+     * bind to GoldPricezResponse, then convert the price and timestamp Strings.
+     */
+    @Benchmark
+    public GoldPriceSnapshot legacyStringParse(Blackhole blackhole) throws IOException {
+        blackhole.consume(UUID.randomUUID().toString().substring(0, 8));
+        String responseBody = new String(body, StandardCharsets.UTF_8);
+
+        String json = responseBody.trim();
+        if (json.startsWith("\"") && json.endsWith("\"")) {
+            json = objectMapper.readValue(json, String.class);
+        }
+        GoldPricezResponse response = objectMapper.readValue(json, GoldPricezResponse.class);
+
+        BigDecimal price = new BigDecimal(response.getOuncePriceUsd());
+        LocalDateTime asOf = LocalDateTime.now();
+        if (response.getUpdatedAt() != null && !response.getUpdatedAt().isBlank()) {
+            try {
+                asOf = LocalDateTime.parse(response.getUpdatedAt(), LEGACY_DATE_FORMAT);
+            } catch (DateTimeParseException e) {
+                // same fallback as before: keep the current time
+            }
+        }
+
+        return GoldPriceSnapshot.builder()
+                .price(price)
+                .currency(GoldPricezPayloadParser.CURRENCY)
+                .unit(GoldPricezPayloadParser.UNIT)
+                .asOf(asOf)
+                .source(GoldPricezPayloadParser.SOURCE)
+                .build();
+    }
+
+    @Benchmark
+    public GoldPriceSnapshot streamingDataBufferParse() {
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(body);
+        return streamingParser.parse(buffer, "bench");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GoldPricezParseBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
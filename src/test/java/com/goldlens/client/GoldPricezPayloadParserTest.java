@@ -0,0 +1,103 @@
+package com.goldlens.client;
+
+import com.goldlens.dto.GoldPriceSnapshot;
+import com.goldlens.exception.GoldApiUnavailableException;
+import com.goldlens.exception.GoldPricezParseException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GoldPricezPayloadParserTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 10, 16, 9, 14, 2);
+
+    private final GoldPricezPayloadParser parser = new GoldPricezPayloadParser();
+
+    @Test
+    void parsesPlainPayload() throws IOException {
+        assertFixtureFields(parser.parse(heap(fixture("rates-usd-ounce.json")), "test"));
+    }
+
+    @Test
+    void parsesDoubleEncodedPayload() throws IOException {
+        assertFixtureFields(parser.parse(heap(fixture("rates-usd-ounce-double-encoded.json")), "test"));
+    }
+
+    @Test
+    void parsesDirectBuffersThroughTheStreamingPath() throws IOException {
+        assertFixtureFields(parser.parse(direct(fixture("rates-usd-ounce.json")), "test"));
+        assertFixtureFields(parser.parse(direct(fixture("rates-usd-ounce-double-encoded.json")), "test"));
+    }
+
+    @Test
+    void acceptsNumericPrice() {
+        GoldPriceSnapshot snapshot = parser.parse(heap(bytes("{\"ounce_price_usd\":4895.44}")), "test");
+
+        assertThat(snapshot.getPrice()).isEqualByComparingTo("4895.44");
+    }
+
+    @Test
+    void doesNotConsumeTheBuffer() throws IOException {
+        DataBuffer buffer = heap(fixture("rates-usd-ounce.json"));
+        int readable = buffer.readableByteCount();
+
+        parser.parse(buffer, "test");
+
+        assertThat(buffer.readableByteCount()).isEqualTo(readable);
+    }
+
+    @Test
+    void rejectsEmptyBody() {
+        assertThatThrownBy(() -> parser.parse(heap(new byte[0]), "test"))
+                .isInstanceOf(GoldApiUnavailableException.class);
+    }
+
+    @Test
+    void rejectsMissingPrice() {
+        assertThatThrownBy(() -> parser.parse(heap(bytes("{\"ounce_price_ask\":\"4895.700\"}")), "test"))
+                .isInstanceOf(GoldApiUnavailableException.class);
+    }
+
+    @Test
+    void rejectsMalformedJson() {
+        assertThatThrownBy(() -> parser.parse(heap(bytes("{\"ounce_price_usd\":")), "test"))
+                .isInstanceOf(GoldPricezParseException.class);
+    }
+
+    private static void assertFixtureFields(GoldPriceSnapshot snapshot) {
+        assertThat(snapshot.getPrice()).isEqualTo(new BigDecimal("4895.440"));
+        assertThat(snapshot.getAsOf()).isEqualTo(UPDATED);
+        assertThat(snapshot.getCurrency()).isEqualTo(GoldPricezPayloadParser.CURRENCY);
+        assertThat(snapshot.getUnit()).isEqualTo(GoldPricezPayloadParser.UNIT);
+        assertThat(snapshot.getSource()).isEqualTo(GoldPricezPayloadParser.SOURCE);
+    }
+
+    private static byte[] fixture(String name) throws IOException {
+        try (InputStream in = GoldPricezPayloadParserTest.class.getResourceAsStream("/goldpricez/" + name)) {
+            assertThat(in).as("fixture %s", name).isNotNull();
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static DataBuffer heap(byte[] body) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(body);
+    }
+
+    // Direct buffers have no backing array, so the parser reads them as a stream
+    private static DataBuffer direct(byte[] body) {
+        return new DefaultDataBufferFactory(true).allocateBuffer(body.length).write(body);
+    }
+}
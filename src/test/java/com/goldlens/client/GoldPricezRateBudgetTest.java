@@ -0,0 +1,122 @@
+package com.goldlens.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.goldlens.client.RequestPriority.INTERACTIVE;
+import static com.goldlens.client.RequestPriority.SCHEDULER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GoldPricezRateBudgetTest {
+
+    private static final Duration PENALTY = Duration.ofMinutes(15);
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+
+    // 5 per hour, 2 of them reserved for the scheduler
+    private final GoldPricezRateBudget budget =
+            new GoldPricezRateBudget(new SimpleMeterRegistry(), 5, 2, PENALTY, now::get);
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toMillis());
+    }
+
+    @Test
+    void interactiveCallersCannotUseTheSchedulerReserve() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(budget.tryAcquire(INTERACTIVE)).isTrue();
+        }
+        assertThat(budget.tryAcquire(INTERACTIVE)).isFalse();
+        assertThat(budget.remaining(INTERACTIVE)).isZero();
+        assertThat(budget.remaining(SCHEDULER)).isEqualTo(2);
+
+        assertThat(budget.tryAcquire(SCHEDULER)).isTrue();
+        assertThat(budget.tryAcquire(SCHEDULER)).isTrue();
+        assertThat(budget.tryAcquire(SCHEDULER)).isFalse();
+    }
+
+    @Test
+    void schedulerUseCountsAgainstInteractiveShare() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(budget.tryAcquire(SCHEDULER)).isTrue();
+        }
+
+        assertThat(budget.tryAcquire(INTERACTIVE)).isFalse();
+        assertThat(budget.tryAcquire(SCHEDULER)).isTrue();
+    }
+
+    @Test
+    void requestsLeaveTheWindowAfterARollingHour() {
+        assertThat(budget.tryAcquire(INTERACTIVE)).isTrue();
+        advance(Duration.ofMinutes(20));
+        assertThat(budget.tryAcquire(INTERACTIVE)).isTrue();
+        assertThat(budget.tryAcquire(INTERACTIVE)).isTrue();
+        assertThat(budget.tryAcquire(INTERACTIVE)).isFalse();
+
+        // First request is 1 ms short of an hour old
+        advance(Duration.ofMinutes(40).minusMillis(1));
+        assertThat(budget.tryAcquire(INTERACTIVE)).isFalse();
+
+        advance(Duration.ofMillis(1));
+        assertThat(budget.remaining(INTERACTIVE)).isEqualTo(1);
+        assertThat(budget.tryAcquire(INTERACTIVE)).isTrue();
+        assertThat(budget.tryAcquire(INTERACTIVE)).isFalse();
+
+        // The two requests made at +20 min expire together
+        advance(Duration.ofMinutes(20));
+        assertThat(budget.remaining(INTERACTIVE)).isEqualTo(2);
+    }
+
+    @Test
+    void retryAfterBlocksAllCallersUntilItPasses() {
+        budget.onRateLimited(Duration.ofSeconds(90));
+
+        assertThat(budget.tryAcquire(INTERACTIVE)).isFalse();
+        assertThat(budget.tryAcquire(SCHEDULER)).isFalse();
+        assertThat(budget.remaining(SCHEDULER)).isZero();
+
+        advance(Duration.ofSeconds(90).minusMillis(1));
+        assertThat(budget.tryAcquire(SCHEDULER)).isFalse();
+
+        advance(Duration.ofMillis(1));
+        assertThat(budget.tryAcquire(INTERACTIVE)).isTrue();
+    }
+
+    @Test
+    void missingRetryAfterAppliesPenalty() {
+        budget.onRateLimited(null);
+
+        advance(PENALTY.minusMillis(1));
+        assertThat(budget.tryAcquire(SCHEDULER)).isFalse();
+
+        advance(Duration.ofMillis(1));
+        assertThat(budget.tryAcquire(SCHEDULER)).isTrue();
+    }
+
+    @Test
+    void shorterRetryAfterDoesNotShortenAnExistingBlock() {
+        budget.onRateLimited(Duration.ofMinutes(10));
+        budget.onRateLimited(Duration.ofSeconds(30));
+
+        advance(Duration.ofMinutes(5));
+        assertThat(budget.tryAcquire(SCHEDULER)).isFalse();
+
+        advance(Duration.ofMinutes(5));
+        assertThat(budget.tryAcquire(SCHEDULER)).isTrue();
+    }
+
+    @Test
+    void deniedCallsDoNotUseTheBudget() {
+        budget.onRateLimited(Duration.ofMinutes(1));
+        for (int i = 0; i < 10; i++) {
+            budget.tryAcquire(INTERACTIVE);
+        }
+
+        advance(Duration.ofMinutes(1));
+        assertThat(budget.remaining(INTERACTIVE)).isEqualTo(3);
+        assertThat(budget.remaining(SCHEDULER)).isEqualTo(5);
+    }
+}
@@ -0,0 +1,181 @@
+package com.goldlens.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final Duration OPEN = Duration.ofSeconds(30);
+    private static final Duration MAX_OPEN = Duration.ofMinutes(2);
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    private CircuitBreaker breaker(double jitter) {
+        return new CircuitBreaker("test", 3, OPEN, MAX_OPEN, jitter, new SimpleMeterRegistry(), now::get);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    private static void fail(CircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+            breaker.onFailure();
+        }
+    }
+
+    @Test
+    void opensAfterConsecutiveFailureThreshold() {
+        CircuitBreaker breaker = breaker(0);
+
+        fail(breaker, 2);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        fail(breaker, 1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void successWhileClosedResetsFailureCount() {
+        CircuitBreaker breaker = breaker(0);
+
+        fail(breaker, 2);
+        breaker.onSuccess();
+        fail(breaker, 2);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void letsExactlyOneProbeThroughOnceOpenPeriodElapses() {
+        CircuitBreaker breaker = breaker(0);
+        fail(breaker, 3);
+
+        advance(OPEN.minusNanos(1));
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        advance(Duration.ofNanos(1));
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void probeSuccessCloses() {
+        CircuitBreaker breaker = breaker(0);
+        fail(breaker, 3);
+        advance(OPEN);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void probeFailureReopensWithDoubledBackoff() {
+        CircuitBreaker breaker = breaker(0);
+        fail(breaker, 3);
+        advance(OPEN);
+
+        fail(breaker, 1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        advance(OPEN.multipliedBy(2).minusNanos(1));
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        advance(Duration.ofNanos(1));
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void backoffIsCappedAtMaxOpenDuration() {
+        CircuitBreaker breaker = breaker(0);
+        fail(breaker, 3);
+        // Re-open with failed probes: 30s, 60s, 120s, then capped at 120s
+        for (Duration period : new Duration[] {OPEN, OPEN.multipliedBy(2), MAX_OPEN}) {
+            advance(period);
+            fail(breaker, 1);
+        }
+
+        advance(MAX_OPEN.minusNanos(1));
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        advance(Duration.ofNanos(1));
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void recoveryResetsBackoff() {
+        CircuitBreaker breaker = breaker(0);
+        fail(breaker, 3);
+        advance(OPEN);
+        fail(breaker, 1);
+        advance(OPEN.multipliedBy(2));
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onSuccess();
+
+        fail(breaker, 3);
+        advance(OPEN);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void jitterShortensOpenPeriodWithinBounds() {
+        CircuitBreaker breaker = breaker(0.5);
+        fail(breaker, 3);
+
+        advance(OPEN.dividedBy(2).minusNanos(1));
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        advance(OPEN.dividedBy(2).plusNanos(1));
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void lateSuccessWhileOpenDoesNotClose() {
+        CircuitBreaker breaker = breaker(0);
+        // A call started while CLOSED, still in flight when the breaker opens
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        fail(breaker, 3);
+
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void lateSuccessWhileHalfOpenWithoutProbeDoesNotClose() {
+        CircuitBreaker breaker = breaker(0);
+        fail(breaker, 3);
+        advance(OPEN);
+        // Moves the breaker to HALF_OPEN, then hands the probe back unused
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.releasePermission();
+
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void releasedProbeCanBeTakenAgain() {
+        CircuitBreaker breaker = breaker(0);
+        fail(breaker, 3);
+        advance(OPEN);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.releasePermission();
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+}
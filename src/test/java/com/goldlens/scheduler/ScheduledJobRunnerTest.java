@@ -0,0 +1,71 @@
+package com.goldlens.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduledJobRunnerTest {
+
+    private static final CronExpression DAILY_AT_SIX = CronExpression.parse("0 0 6 * * *");
+    private static final CronExpression EVERY_SIX_HOURS = CronExpression.parse("0 0 */6 * * *");
+
+    @Test
+    void includesSlotExactlyAtWindowStart() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 10, 5, 0);
+
+        assertThat(ScheduledJobRunner.latestSlot(DAILY_AT_SIX, now, Duration.ofHours(23)))
+                .contains(LocalDateTime.of(2026, 3, 9, 6, 0));
+    }
+
+    @Test
+    void excludesSlotOneSecondBeforeWindowStart() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 10, 5, 0);
+
+        assertThat(ScheduledJobRunner.latestSlot(DAILY_AT_SIX, now, Duration.ofHours(23).minusSeconds(1)))
+                .isEmpty();
+    }
+
+    @Test
+    void emptyWhenNoSlotInWindow() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 10, 5, 0);
+
+        assertThat(ScheduledJobRunner.latestSlot(DAILY_AT_SIX, now, Duration.ofHours(1))).isEmpty();
+    }
+
+    @Test
+    void picksLatestOfSeveralSlotsInWindow() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 10, 13, 30);
+
+        assertThat(ScheduledJobRunner.latestSlot(EVERY_SIX_HOURS, now, Duration.ofHours(24)))
+                .contains(LocalDateTime.of(2026, 3, 10, 12, 0));
+    }
+
+    @Test
+    void includesSlotFiringExactlyNow() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 10, 6, 0, 0, 500_000_000);
+
+        assertThat(ScheduledJobRunner.latestSlot(DAILY_AT_SIX, now, Duration.ofHours(24)))
+                .contains(LocalDateTime.of(2026, 3, 10, 6, 0));
+    }
+
+    @Test
+    void excludesSlotAfterNow() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 10, 5, 59, 59);
+
+        assertThat(ScheduledJobRunner.latestSlot(DAILY_AT_SIX, now, Duration.ofHours(24)))
+                .contains(LocalDateTime.of(2026, 3, 9, 6, 0));
+    }
+
+    @Test
+    void slotsAreWallClockAcrossDstChange() {
+        // US clocks skip 02:00-03:00 on 2026-03-08; slots are LocalDateTime, so there is no gap
+        LocalDateTime now = LocalDateTime.of(2026, 3, 8, 7, 0);
+
+        assertThat(ScheduledJobRunner.latestSlot(EVERY_SIX_HOURS, now, Duration.ofHours(12)))
+                .contains(LocalDateTime.of(2026, 3, 8, 6, 0));
+    }
+}
@@ -0,0 +1,169 @@
+package com.goldlens.service;
+
+import com.goldlens.domain.BackfillCheckpoint;
+import com.goldlens.domain.BackfillStatus;
+import com.goldlens.domain.Indicator;
+import com.goldlens.repository.BackfillCheckpointRepository;
+import com.goldlens.scheduler.FredClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FredBackfillServiceTest {
+
+    private static final String SERIES = "DFII10";
+    private static final LocalDate FROM = LocalDate.of(2020, 1, 1);
+    private static final int PAGE_SIZE = 10;
+    private static final int TOTAL = 30;
+
+    private final Indicator indicator = Indicator.builder().id(1L).code("US_10Y_REAL_YIELD").build();
+    private final FredClient fredClient = mock(FredClient.class);
+    private final IndicatorValueService indicatorValueService = mock(IndicatorValueService.class);
+    private final BackfillCheckpointRepository repository = mock(BackfillCheckpointRepository.class);
+
+    // nextOffset and status of the checkpoint at every save, in order
+    private final List<String> saves = new CopyOnWriteArrayList<>();
+
+    private FredBackfillService service;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findBySeriesId(SERIES)).thenReturn(Optional.empty());
+        when(repository.save(any(BackfillCheckpoint.class))).thenAnswer(invocation -> {
+            BackfillCheckpoint checkpoint = invocation.getArgument(0);
+            if (checkpoint.getId() == null) {
+                checkpoint.setId(1L);
+            }
+            saves.add(checkpoint.getNextOffset() + " " + checkpoint.getStatus());
+            return checkpoint;
+        });
+        when(indicatorValueService.upsertAll(anyList(), eq(IndicatorValueService.OnConflict.SKIP)))
+                .thenAnswer(invocation -> {
+                    List<?> values = invocation.getArgument(0);
+                    return new IndicatorValueService.UpsertResult(
+                            values.stream().map(v -> new IndicatorValueService.Change(1L, FROM, true)).toList(), 0);
+                });
+        // Requests paced nanoseconds apart; two pages in flight at once
+        service = new FredBackfillService(fredClient, indicatorValueService, repository,
+                FROM.toString(), PAGE_SIZE, 2, Integer.MAX_VALUE);
+    }
+
+    private void page(int offset) {
+        when(fetch(offset)).thenReturn(Optional.of(pageAt(offset)));
+    }
+
+    private Optional<FredClient.ObservationPage> fetch(int offset) {
+        return fredClient.fetchObservationPage(eq(SERIES), eq(FROM), any(LocalDate.class), eq(PAGE_SIZE), eq(offset));
+    }
+
+    private static FredClient.ObservationPage pageAt(int offset) {
+        return new FredClient.ObservationPage(
+                List.of(new FredClient.FredObservation(FROM.plusDays(offset), BigDecimal.ONE)), PAGE_SIZE, TOTAL);
+    }
+
+    @Test
+    void checkpointAdvancesOnlyOverContiguousPagesWhenTheyCompleteOutOfOrder() {
+        page(0);
+        page(20);
+        // Page 10 returns only after page 20 was written: saves are RUNNING, page 0, page 20
+        CountDownLatch thirdSave = new CountDownLatch(3);
+        doAnswer(invocation -> {
+            BackfillCheckpoint checkpoint = invocation.getArgument(0);
+            checkpoint.setId(1L);
+            saves.add(checkpoint.getNextOffset() + " " + checkpoint.getStatus());
+            thirdSave.countDown();
+            return checkpoint;
+        }).when(repository).save(any(BackfillCheckpoint.class));
+        when(fetch(10)).thenAnswer(invocation -> {
+            assertThat(thirdSave.await(5, TimeUnit.SECONDS)).isTrue();
+            return Optional.of(pageAt(10));
+        });
+
+        FredBackfillService.BackfillResult result = service.backfill(indicator, SERIES);
+
+        assertThat(saves).containsExactly("0 RUNNING", "10 RUNNING", "10 RUNNING", "30 RUNNING", "30 COMPLETED");
+        assertThat(result.status()).isEqualTo(BackfillStatus.COMPLETED);
+        assertThat(result.pagesWritten()).isEqualTo(3);
+        assertThat(result.rowsWritten()).isEqualTo(3);
+    }
+
+    @Test
+    void failedMiddlePageHoldsTheOffsetAndResumeRestartsThere() {
+        page(0);
+        page(20);
+        when(fetch(10)).thenReturn(Optional.empty());
+
+        FredBackfillService.BackfillResult failed = service.backfill(indicator, SERIES);
+
+        assertThat(failed.status()).isEqualTo(BackfillStatus.FAILED);
+        assertThat(failed.pagesWritten()).isEqualTo(2);
+        assertThat(saves).last().isEqualTo("10 FAILED");
+
+        // Resume from the stored checkpoint with page 10 now available
+        BackfillCheckpoint stored = checkpointAfter(failed);
+        when(repository.findBySeriesId(SERIES)).thenReturn(Optional.of(stored));
+        page(10);
+        saves.clear();
+
+        FredBackfillService.BackfillResult resumed = service.backfill(indicator, SERIES);
+
+        assertThat(resumed.status()).isEqualTo(BackfillStatus.COMPLETED);
+        assertThat(saves).first().isEqualTo("10 RUNNING");
+        assertThat(saves).last().isEqualTo("30 COMPLETED");
+        // Page 20 was written ahead of the gap but not checkpointed, so it is fetched again
+        assertThat(resumed.pagesWritten()).isEqualTo(2);
+        verify(fredClient, times(1))
+                .fetchObservationPage(eq(SERIES), eq(FROM), any(LocalDate.class), eq(PAGE_SIZE), eq(0));
+        verify(fredClient, times(2))
+                .fetchObservationPage(eq(SERIES), eq(FROM), any(LocalDate.class), eq(PAGE_SIZE), eq(20));
+    }
+
+    @Test
+    void completedCheckpointIsNotFetchedAgain() {
+        page(0);
+        page(10);
+        page(20);
+        FredBackfillService.BackfillResult first = service.backfill(indicator, SERIES);
+        assertThat(first.status()).isEqualTo(BackfillStatus.COMPLETED);
+
+        when(repository.findBySeriesId(SERIES)).thenReturn(Optional.of(checkpointAfter(first)));
+        clearInvocations(fredClient);
+
+        FredBackfillService.BackfillResult second = service.backfill(indicator, SERIES);
+
+        assertThat(second.status()).isEqualTo(BackfillStatus.COMPLETED);
+        assertThat(second.pagesWritten()).isZero();
+        verify(fredClient, never()).fetchObservationPage(any(), any(), any(), anyInt(), anyInt());
+    }
+
+    // The checkpoint as the last save left it; the repository mock hands back the same instance
+    private BackfillCheckpoint checkpointAfter(FredBackfillService.BackfillResult result) {
+        ArgumentCaptor<BackfillCheckpoint> saved = ArgumentCaptor.forClass(BackfillCheckpoint.class);
+        verify(repository, atLeastOnce()).save(saved.capture());
+        BackfillCheckpoint checkpoint = saved.getValue();
+        assertThat(checkpoint.getStatus()).isEqualTo(result.status());
+        return checkpoint;
+    }
+}
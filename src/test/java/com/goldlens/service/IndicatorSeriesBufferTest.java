@@ -0,0 +1,144 @@
+package com.goldlens.service;
+
+import com.goldlens.config.SignalProperties;
+import com.goldlens.domain.Indicator;
+import com.goldlens.domain.IndicatorValue;
+import com.goldlens.domain.SignalType;
+import com.goldlens.repository.IndicatorValueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IndicatorSeriesBufferTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 10);
+
+    private final Indicator indicator = Indicator.builder().id(1L).code("US_DOLLAR_INDEX").build();
+    private final IndicatorValueRepository repository = mock(IndicatorValueRepository.class);
+
+    // What the database holds; the buffer must agree with it after every committed write
+    private final TreeMap<LocalDate, Double> stored = new TreeMap<>();
+
+    private IndicatorSeriesBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findTopNByIndicatorOrderByDateDesc(eq(indicator), anyInt())).thenAnswer(invocation -> {
+            int limit = invocation.getArgument(1);
+            List<IndicatorValue> newestFirst = new ArrayList<>();
+            for (var entry : stored.descendingMap().entrySet()) {
+                if (newestFirst.size() == limit) {
+                    break;
+                }
+                newestFirst.add(IndicatorValue.builder()
+                        .indicator(indicator)
+                        .date(entry.getKey())
+                        .value(BigDecimal.valueOf(entry.getValue()))
+                        .build());
+            }
+            return newestFirst;
+        });
+        buffer = new IndicatorSeriesBuffer(repository, new SignalProperties());
+
+        write(DAY.minusDays(2), 1.0);
+        write(DAY.minusDays(1), 2.0);
+        write(DAY, 3.0);
+    }
+
+    private void write(LocalDate date, double value) {
+        stored.put(date, value);
+        buffer.record(indicator.getId(), date, value);
+    }
+
+    private SignalType trend() {
+        return buffer.evaluate(indicator).map(IndicatorSeriesBuffer.Trend::type).orElse(null);
+    }
+
+    @Test
+    void loadsOnceThenAppliesNewerWritesInMemory() {
+        assertThat(trend()).isEqualTo(SignalType.RED);
+
+        write(DAY.plusDays(1), 2.5);
+        assertThat(trend()).isEqualTo(SignalType.YELLOW);
+        write(DAY.plusDays(2), 2.0);
+        assertThat(trend()).isEqualTo(SignalType.GREEN);
+
+        verify(repository, times(1)).findTopNByIndicatorOrderByDateDesc(eq(indicator), anyInt());
+    }
+
+    @Test
+    void revisionOfLatestReplacesItInMemory() {
+        assertThat(trend()).isEqualTo(SignalType.RED);
+
+        write(DAY, 0.5);
+
+        assertThat(trend()).isEqualTo(SignalType.YELLOW);
+        verify(repository, times(1)).findTopNByIndicatorOrderByDateDesc(eq(indicator), anyInt());
+    }
+
+    @Test
+    void writeBehindNewestInsideWindowReloads() {
+        assertThat(trend()).isEqualTo(SignalType.RED);
+
+        // Revision of the middle observation turns 1, 2, 3 into 1, 4, 3
+        write(DAY.minusDays(1), 4.0);
+
+        assertThat(trend()).isEqualTo(SignalType.YELLOW);
+        verify(repository, times(2)).findTopNByIndicatorOrderByDateDesc(eq(indicator), anyInt());
+    }
+
+    @Test
+    void writeOlderThanFullWindowIsIgnored() {
+        assertThat(trend()).isEqualTo(SignalType.RED);
+
+        write(DAY.minusDays(30), 100.0);
+
+        assertThat(trend()).isEqualTo(SignalType.RED);
+        verify(repository, times(1)).findTopNByIndicatorOrderByDateDesc(eq(indicator), anyInt());
+    }
+
+    @Test
+    void staleWindowIgnoresFurtherWritesUntilReloaded() {
+        assertThat(trend()).isEqualTo(SignalType.RED);
+
+        write(DAY.minusDays(1), 4.0);
+        write(DAY.plusDays(1), 5.0);
+
+        // Reload sees 4, 3, 5
+        assertThat(trend()).isEqualTo(SignalType.YELLOW);
+        assertThat(buffer.evaluate(indicator).orElseThrow().latestDate()).isEqualTo(DAY.plusDays(1));
+    }
+
+    @Test
+    void invalidateForcesReload() {
+        assertThat(trend()).isEqualTo(SignalType.RED);
+
+        // Changed behind the buffer's back, e.g. a bulk write that bypassed record()
+        stored.put(DAY, 0.0);
+        buffer.invalidate(indicator.getId());
+
+        assertThat(trend()).isEqualTo(SignalType.YELLOW);
+        verify(repository, times(2)).findTopNByIndicatorOrderByDateDesc(eq(indicator), anyInt());
+    }
+
+    @Test
+    void emptyWithFewerThanTwoObservations() {
+        stored.clear();
+        stored.put(DAY, 1.0);
+
+        assertThat(buffer.evaluate(indicator)).isEmpty();
+    }
+}
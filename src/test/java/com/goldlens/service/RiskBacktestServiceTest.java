@@ -0,0 +1,243 @@
+package com.goldlens.service;
+
+import com.goldlens.config.RiskRuleProperties;
+import com.goldlens.domain.RiskLevel;
+import com.goldlens.domain.SignalType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.goldlens.domain.SignalType.GREEN;
+import static com.goldlens.domain.SignalType.RED;
+import static com.goldlens.domain.SignalType.YELLOW;
+import static com.goldlens.service.RiskBacktestService.CHUNK_SIZE;
+import static com.goldlens.service.RiskDecisionTable.NO_SIGNAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RiskBacktestServiceTest {
+
+    // Marks output slots a join must not touch
+    private static final byte UNTOUCHED = -1;
+
+    private static RiskDecisionTable table;
+
+    @BeforeAll
+    static void compileShippedRules() throws IOException {
+        var sources = new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yml"));
+        RiskRuleProperties properties = new Binder(ConfigurationPropertySources.from(sources))
+                .bind("goldlens.risk", RiskRuleProperties.class)
+                .get();
+        table = RiskDecisionTable.compile(properties);
+    }
+
+    @Test
+    void joinTakesLatestSignalOnOrBeforeEachDay() {
+        RiskBacktestService.Column signals = signals(new long[] {10, 20, 30}, RED, GREEN, YELLOW);
+        long[] days = {5, 10, 15, 20, 25, 30, 35};
+
+        byte[] out = join(signals, days, 0, days.length);
+
+        assertThat(out).containsExactly(NO_SIGNAL, state(RED), state(RED), state(GREEN), state(GREEN),
+                state(YELLOW), state(YELLOW));
+    }
+
+    @Test
+    void joinStartingMidChunkBetweenSignalsUsesInsertionPoint() {
+        RiskBacktestService.Column signals = signals(new long[] {10, 20, 30}, RED, GREEN, YELLOW);
+        long[] days = {5, 10, 15, 20, 25, 30, 35};
+
+        // Day 25 is not a signal day: the search misses and -k - 2 must land on day 20
+        byte[] out = join(signals, days, 4, 6);
+
+        assertThat(out).containsExactly(UNTOUCHED, UNTOUCHED, UNTOUCHED, UNTOUCHED, state(GREEN), state(YELLOW),
+                UNTOUCHED);
+    }
+
+    @Test
+    void joinStartingMidChunkOnASignalDay() {
+        RiskBacktestService.Column signals = signals(new long[] {10, 20, 30}, RED, GREEN, YELLOW);
+        long[] days = {5, 10, 15, 20, 25, 30, 35};
+
+        byte[] out = join(signals, days, 3, days.length);
+
+        assertThat(Arrays.copyOfRange(out, 3, days.length))
+                .containsExactly(state(GREEN), state(GREEN), state(YELLOW), state(YELLOW));
+        assertThat(Arrays.copyOf(out, 3)).containsOnly(UNTOUCHED);
+    }
+
+    @Test
+    void joinStartingMidChunkBeforeFirstSignal() {
+        RiskBacktestService.Column signals = signals(new long[] {10, 20}, RED, GREEN);
+        long[] days = {1, 2, 3, 10, 11};
+
+        byte[] out = join(signals, days, 1, days.length);
+
+        assertThat(out).containsExactly(UNTOUCHED, NO_SIGNAL, NO_SIGNAL, state(RED), state(RED));
+    }
+
+    @Test
+    void joinWithoutSignalsIsNoSignalAndEmptyRangeIsNoOp() {
+        long[] days = {1, 2, 3};
+
+        assertThat(join(signals(new long[0]), days, 0, days.length)).containsOnly(NO_SIGNAL);
+        assertThat(join(signals(new long[] {1}, RED), days, 2, 2)).containsOnly(UNTOUCHED);
+    }
+
+    @Test
+    void chunkedJoinMatchesLinearScanAcrossChunkBoundaries() {
+        // Signals every 7 days from day 3; first rows precede the first signal
+        int signalCount = 2 * CHUNK_SIZE / 7 + 2;
+        long[] signalDays = new long[signalCount];
+        SignalType[] types = new SignalType[signalCount];
+        for (int i = 0; i < signalCount; i++) {
+            signalDays[i] = 3 + 7L * i;
+            types[i] = SignalType.values()[i % SignalType.values().length];
+        }
+        RiskBacktestService.Column signals = signals(signalDays, types);
+
+        for (int rows : new int[] {CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE + 1, 2 * CHUNK_SIZE + 1}) {
+            long[] days = new long[rows];
+            for (int i = 0; i < rows; i++) {
+                days[i] = i;
+            }
+            byte[] out = new byte[rows];
+            for (int start = 0; start < rows; start += CHUNK_SIZE) {
+                RiskBacktestService.asOfJoin(signals, days, start, Math.min(rows, start + CHUNK_SIZE), out);
+            }
+
+            assertThat(out).as("%s rows", rows).isEqualTo(linearJoin(signalDays, types, days));
+        }
+    }
+
+    @Test
+    void forwardReturnsUsePostRangeTailAndAreNaNPastLastPrice() {
+        // Five days in range, one tail day after it
+        RiskBacktestService.Column prices = prices(5, 100, 110, 121, 100, 125, 150);
+        int[] outcomes = outcomes(prices.rangeSize, RED, RED);
+        double[] forward = new double[prices.rangeSize];
+
+        RiskBacktestService.LevelStats stats =
+                RiskBacktestService.computeChunk(table, prices, 2, 0, prices.rangeSize, outcomes, forward);
+
+        assertThat(forward[0]).isCloseTo(0.21, within(1e-12));
+        assertThat(forward[2]).isCloseTo(125.0 / 121 - 1, within(1e-12));
+        // Row 3 runs into the tail; row 4 runs past it
+        assertThat(forward[3]).isCloseTo(0.5, within(1e-12));
+        assertThat(forward[4]).isNaN();
+
+        RiskBacktestService.LevelSummary high = summary(stats, RiskLevel.HIGH);
+        assertThat(high.days()).isEqualTo(5);
+        assertThat(high.daysWithReturn()).isEqualTo(4);
+        assertThat(high.positiveShare()).isEqualTo(0.75);
+    }
+
+    @Test
+    void horizonPastAllPricesLeavesNoReturns() {
+        RiskBacktestService.Column prices = prices(3, 100, 101, 102);
+        int[] outcomes = outcomes(prices.rangeSize, GREEN, GREEN);
+        double[] forward = new double[prices.rangeSize];
+
+        RiskBacktestService.LevelStats stats =
+                RiskBacktestService.computeChunk(table, prices, 3, 0, prices.rangeSize, outcomes, forward);
+
+        assertThat(Arrays.stream(forward).boxed().toList()).allMatch(Double::isNaN);
+        RiskBacktestService.LevelSummary low = summary(stats, RiskLevel.LOW);
+        assertThat(low.days()).isEqualTo(3);
+        assertThat(low.daysWithReturn()).isZero();
+        assertThat(low.meanForwardReturn()).isNull();
+        assertThat(low.positiveShare()).isNull();
+    }
+
+    @Test
+    void mergedChunkStatsMatchOneChunk() {
+        int rows = CHUNK_SIZE + 1;
+        double[] values = new double[rows + 2];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 100 + (i % 5) - (i % 3);
+        }
+        RiskBacktestService.Column prices = prices(rows, values);
+        byte[][] states = new byte[2][rows];
+        for (int row = 0; row < rows; row++) {
+            states[0][row] = (byte) (row % 4);
+            states[1][row] = (byte) (row / 7 % 4);
+        }
+        int[] outcomes = new int[rows];
+        table.indexAll(states, 0, rows, outcomes);
+
+        double[] chunkedForward = new double[rows];
+        RiskBacktestService.LevelStats chunked = new RiskBacktestService.LevelStats();
+        for (int start = 0; start < rows; start += CHUNK_SIZE) {
+            chunked = chunked.merge(RiskBacktestService.computeChunk(table, prices, 3, start,
+                    Math.min(rows, start + CHUNK_SIZE), outcomes, chunkedForward));
+        }
+        double[] wholeForward = new double[rows];
+        RiskBacktestService.LevelStats whole =
+                RiskBacktestService.computeChunk(table, prices, 3, 0, rows, outcomes, wholeForward);
+
+        assertThat(chunkedForward).isEqualTo(wholeForward);
+        assertThat(chunked.summarise()).isEqualTo(whole.summarise());
+    }
+
+    private static byte state(SignalType type) {
+        return (byte) type.ordinal();
+    }
+
+    private static RiskBacktestService.Column signals(long[] days, SignalType... types) {
+        RiskBacktestService.Column column = new RiskBacktestService.Column();
+        for (int i = 0; i < days.length; i++) {
+            column.add(days[i], types[i].ordinal());
+        }
+        column.rangeSize = column.size;
+        return column;
+    }
+
+    // Consecutive price days from day 0; rows from rangeSize on are the post-range tail
+    private static RiskBacktestService.Column prices(int rangeSize, double... values) {
+        RiskBacktestService.Column column = new RiskBacktestService.Column();
+        for (int i = 0; i < values.length; i++) {
+            column.add(i, values[i]);
+        }
+        column.rangeSize = rangeSize;
+        return column;
+    }
+
+    private static int[] outcomes(int rows, SignalType realYield, SignalType dollar) {
+        byte[][] states = new byte[2][rows];
+        Arrays.fill(states[0], state(realYield));
+        Arrays.fill(states[1], state(dollar));
+        int[] outcomes = new int[rows];
+        table.indexAll(states, 0, rows, outcomes);
+        return outcomes;
+    }
+
+    private static byte[] join(RiskBacktestService.Column signals, long[] days, int start, int end) {
+        byte[] out = new byte[days.length];
+        Arrays.fill(out, UNTOUCHED);
+        RiskBacktestService.asOfJoin(signals, days, start, end, out);
+        return out;
+    }
+
+    private static byte[] linearJoin(long[] signalDays, SignalType[] types, long[] days) {
+        byte[] out = new byte[days.length];
+        for (int row = 0; row < days.length; row++) {
+            out[row] = NO_SIGNAL;
+            for (int k = 0; k < signalDays.length && signalDays[k] <= days[row]; k++) {
+                out[row] = state(types[k]);
+            }
+        }
+        return out;
+    }
+
+    private static RiskBacktestService.LevelSummary summary(RiskBacktestService.LevelStats stats, RiskLevel level) {
+        List<RiskBacktestService.LevelSummary> summary = stats.summarise();
+        return summary.get(level.ordinal());
+    }
+}
@@ -0,0 +1,121 @@
+package com.goldlens.service;
+
+import com.goldlens.config.RiskRuleProperties;
+import com.goldlens.domain.RiskLevel;
+import com.goldlens.domain.SignalType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.goldlens.domain.RiskLevel.HIGH;
+import static com.goldlens.domain.RiskLevel.LOW;
+import static com.goldlens.domain.RiskLevel.MEDIUM;
+import static com.goldlens.domain.SignalType.GREEN;
+import static com.goldlens.domain.SignalType.RED;
+import static com.goldlens.domain.SignalType.YELLOW;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RiskDecisionTableTest {
+
+    private static final String REAL_YIELD = "US_10Y_REAL_YIELD";
+    private static final String DXY = "US_DOLLAR_INDEX";
+
+    private static final String INCOMPLETE = "Incomplete data – not all indicator signals are available";
+    private static final String BOTH_RED = "Rising real yields and a strengthening dollar increase downside risk for gold";
+    private static final String BOTH_GREEN = "Easing real yields and a weakening dollar are supportive for gold";
+    private static final String YIELD_RED = "Rising real yields are negative for gold, while dollar trends are mixed";
+    private static final String DXY_RED = "A strengthening dollar pressures gold, while real yield trends are mixed";
+    private static final String RED_GREEN = "Mixed signals – one indicator is bearish while the other is supportive for gold";
+    private static final String BOTH_YELLOW = "Both indicators show mixed trends – uncertain outlook for gold";
+    private static final String GREEN_YELLOW = "Partially supportive conditions – one indicator is positive while the other is mixed";
+
+    // Outcomes of the hand-written aggregateRisk rules the table replaced; null = no signal
+    private static final List<Case> BASELINE = List.of(
+            new Case(RED, RED, HIGH, BOTH_RED),
+            new Case(GREEN, GREEN, LOW, BOTH_GREEN),
+            new Case(RED, YELLOW, MEDIUM, YIELD_RED),
+            new Case(YELLOW, RED, MEDIUM, DXY_RED),
+            new Case(RED, GREEN, MEDIUM, RED_GREEN),
+            new Case(GREEN, RED, MEDIUM, RED_GREEN),
+            new Case(YELLOW, YELLOW, MEDIUM, BOTH_YELLOW),
+            new Case(GREEN, YELLOW, MEDIUM, GREEN_YELLOW),
+            new Case(YELLOW, GREEN, MEDIUM, GREEN_YELLOW),
+            new Case(null, GREEN, MEDIUM, INCOMPLETE),
+            new Case(null, YELLOW, MEDIUM, INCOMPLETE),
+            new Case(null, RED, MEDIUM, INCOMPLETE),
+            new Case(GREEN, null, MEDIUM, INCOMPLETE),
+            new Case(YELLOW, null, MEDIUM, INCOMPLETE),
+            new Case(RED, null, MEDIUM, INCOMPLETE),
+            new Case(null, null, MEDIUM, INCOMPLETE));
+
+    private static RiskDecisionTable table;
+
+    @BeforeAll
+    static void compileShippedRules() throws IOException {
+        var sources = new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yml"));
+        RiskRuleProperties properties = new Binder(ConfigurationPropertySources.from(sources))
+                .bind("goldlens.risk", RiskRuleProperties.class)
+                .get();
+        table = RiskDecisionTable.compile(properties);
+    }
+
+    @Test
+    void shippedInputsAreRealYieldThenDollar() {
+        assertThat(table.inputs()).containsExactly(REAL_YIELD, DXY);
+    }
+
+    @Test
+    void evaluateMatchesBaselineForAllCombinations() {
+        for (Case c : BASELINE) {
+            Map<String, SignalType> signals = new HashMap<>();
+            if (c.realYield() != null) {
+                signals.put(REAL_YIELD, c.realYield());
+            }
+            if (c.dxy() != null) {
+                signals.put(DXY, c.dxy());
+            }
+
+            RiskDecisionTable.RiskResult result = table.evaluate(signals);
+
+            assertThat(result.level()).as("level for %s", c).isEqualTo(c.level());
+            assertThat(result.reason()).as("reason for %s", c).isEqualTo(c.reason());
+        }
+    }
+
+    @Test
+    void indexAllAgreesWithEvaluate() {
+        int rows = BASELINE.size();
+        byte[][] states = new byte[2][rows];
+        for (int row = 0; row < rows; row++) {
+            states[0][row] = state(BASELINE.get(row).realYield());
+            states[1][row] = state(BASELINE.get(row).dxy());
+        }
+
+        // Offset range, so rows outside [from, to) must stay untouched
+        int[] out = new int[rows];
+        out[0] = -1;
+        table.indexAll(states, 1, rows, out);
+        assertThat(out[0]).isEqualTo(-1);
+        table.indexAll(states, 0, 1, out);
+
+        for (int row = 0; row < rows; row++) {
+            Case c = BASELINE.get(row);
+            assertThat(table.level(out[row])).as("level for %s", c).isEqualTo(c.level());
+            assertThat(table.reason(out[row])).as("reason for %s", c).isEqualTo(c.reason());
+        }
+    }
+
+    private static byte state(SignalType type) {
+        return type != null ? (byte) type.ordinal() : RiskDecisionTable.NO_SIGNAL;
+    }
+
+    private record Case(SignalType realYield, SignalType dxy, RiskLevel level, String reason) {}
+}
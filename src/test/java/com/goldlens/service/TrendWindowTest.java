@@ -0,0 +1,184 @@
+package com.goldlens.service;
+
+import com.goldlens.domain.SignalType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrendWindowTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+
+    @Test
+    void needsTwoObservationsForATrend() {
+        TrendWindow window = new TrendWindow(3);
+        assertThat(window.trend()).isNull();
+
+        window.append(START, 1.0);
+        assertThat(window.trend()).isNull();
+
+        window.append(START.plusDays(1), 2.0);
+        assertThat(window.trend()).isEqualTo(SignalType.YELLOW);
+    }
+
+    @Test
+    void fullWindowMovingOneWayIsRedOrGreen() {
+        TrendWindow rising = filled(3, 1.0, 2.0, 3.0);
+        TrendWindow falling = filled(3, 3.0, 2.0, 1.0);
+        TrendWindow flat = filled(3, 2.0, 2.0, 3.0);
+
+        assertThat(rising.trend()).isEqualTo(SignalType.RED);
+        assertThat(falling.trend()).isEqualTo(SignalType.GREEN);
+        assertThat(flat.trend()).isEqualTo(SignalType.YELLOW);
+    }
+
+    @Test
+    void wrapsAroundAndKeepsCountsInStep() {
+        TrendWindow window = new TrendWindow(3);
+        double[] values = {5, 4, 3, 4, 5, 6, 6, 7, 8, 9};
+        for (int i = 0; i < values.length; i++) {
+            window.append(START.plusDays(i), values[i]);
+            assertThat(window.size()).isEqualTo(Math.min(i + 1, 3));
+            assertThat(window.latestDate()).isEqualTo(START.plusDays(i));
+            assertThat(window.oldestDate()).isEqualTo(START.plusDays(Math.max(0, i - 2)));
+            assertThat(window.trend()).as("after %s observations", i + 1).isEqualTo(recountTrend(values, i, 3));
+        }
+    }
+
+    @Test
+    void replaceLatestUpdatesTrendAfterWrapAround() {
+        TrendWindow window = filled(3, 9.0, 1.0, 2.0, 3.0);
+        assertThat(window.trend()).isEqualTo(SignalType.RED);
+
+        window.replaceLatest(0.5);
+        assertThat(window.trend()).isEqualTo(SignalType.YELLOW);
+
+        window.replaceLatest(4.0);
+        assertThat(window.trend()).isEqualTo(SignalType.RED);
+        assertThat(window.latestDate()).isEqualTo(START.plusDays(3));
+    }
+
+    @Test
+    void rejectsOutOfOrderAppendWithoutChangingState() {
+        TrendWindow window = filled(3, 1.0, 2.0, 3.0);
+
+        assertThatThrownBy(() -> window.append(START.plusDays(1), 0.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> window.append(START.plusDays(2), 0.0))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(window.size()).isEqualTo(3);
+        assertThat(window.latestDate()).isEqualTo(START.plusDays(2));
+        assertThat(window.trend()).isEqualTo(SignalType.RED);
+    }
+
+    @Test
+    void clearResetsWindow() {
+        TrendWindow window = filled(3, 1.0, 2.0, 3.0);
+
+        window.clear();
+
+        assertThat(window.size()).isZero();
+        assertThat(window.latestDate()).isNull();
+        window.append(START, 3.0);
+        window.append(START.plusDays(1), 2.0);
+        window.append(START.plusDays(2), 1.0);
+        assertThat(window.trend()).isEqualTo(SignalType.GREEN);
+    }
+
+    @Test
+    void signedZerosCompareEqual() {
+        assertThat(filled(3, -0.0, 0.0, 1.0).trend()).isEqualTo(SignalType.YELLOW);
+    }
+
+    /**
+     * Every sequence of up to 6 observations over {1, 2, 3}: after each append, a window of 3
+     * must give the signal of the rule it replaced, which looked at the last 3 stored values.
+     */
+    @Test
+    void matchesPreviousThreeValueRule() {
+        for (int length = 1; length <= 6; length++) {
+            int combinations = (int) Math.pow(3, length);
+            for (int c = 0; c < combinations; c++) {
+                double[] values = new double[length];
+                int code = c;
+                for (int i = 0; i < length; i++) {
+                    values[i] = 1 + code % 3;
+                    code /= 3;
+                }
+
+                TrendWindow window = new TrendWindow(3);
+                List<BigDecimal> newestFirst = new ArrayList<>();
+                for (int i = 0; i < length; i++) {
+                    window.append(START.plusDays(i), values[i]);
+                    newestFirst.addFirst(BigDecimal.valueOf(values[i]));
+                    List<BigDecimal> recent = newestFirst.subList(0, Math.min(3, newestFirst.size()));
+                    assertThat(window.trend()).as("values %s", recent).isEqualTo(previousRule(recent));
+                }
+            }
+        }
+    }
+
+    private static TrendWindow filled(int capacity, double... values) {
+        TrendWindow window = new TrendWindow(capacity);
+        for (int i = 0; i < values.length; i++) {
+            window.append(START.plusDays(i), values[i]);
+        }
+        return window;
+    }
+
+    // Trend of the last `capacity` values up to `last`, counted from scratch
+    private static SignalType recountTrend(double[] values, int last, int capacity) {
+        int from = Math.max(0, last - capacity + 1);
+        if (last - from < 1) {
+            return null;
+        }
+        int rising = 0;
+        int falling = 0;
+        for (int i = from + 1; i <= last; i++) {
+            if (values[i] > values[i - 1]) {
+                rising++;
+            } else if (values[i] < values[i - 1]) {
+                falling++;
+            }
+        }
+        int pairs = capacity - 1;
+        if (last - from == pairs && rising == pairs) {
+            return SignalType.RED;
+        }
+        if (last - from == pairs && falling == pairs) {
+            return SignalType.GREEN;
+        }
+        return SignalType.YELLOW;
+    }
+
+    // The former SignalEngineService.evaluateTrend over the newest 3 values, newest first
+    private static SignalType previousRule(List<BigDecimal> values) {
+        if (values.size() < 2) {
+            return null;
+        }
+        int rising = 0;
+        int falling = 0;
+        for (int i = 0; i < values.size() - 1; i++) {
+            int comparison = values.get(i).compareTo(values.get(i + 1));
+            if (comparison > 0) {
+                rising++;
+            } else if (comparison < 0) {
+                falling++;
+            }
+        }
+        if (rising >= 2 && values.size() >= 3) {
+            return SignalType.RED;
+        }
+        if (falling >= 2) {
+            return SignalType.GREEN;
+        }
+        return SignalType.YELLOW;
+    }
+}